@@ -15,15 +15,18 @@
  */
 package org.reaktivity.specification.nukleus.amqp.internal;
 
+import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.kaazing.k3po.lang.el.BytesMatcher;
@@ -34,14 +37,22 @@ import org.reaktivity.specification.amqp.internal.types.AmqpApplicationPropertyF
 import org.reaktivity.specification.amqp.internal.types.AmqpBinaryFW;
 import org.reaktivity.specification.amqp.internal.types.AmqpBodyKind;
 import org.reaktivity.specification.amqp.internal.types.AmqpCapabilities;
+import org.reaktivity.specification.amqp.internal.types.AmqpDeliveryState;
+import org.reaktivity.specification.amqp.internal.types.AmqpDispositionFW;
+import org.reaktivity.specification.amqp.internal.types.AmqpDispositionFlag;
+import org.reaktivity.specification.amqp.internal.types.AmqpHeaderFW;
+import org.reaktivity.specification.amqp.internal.types.AmqpMessagePropertyKind;
 import org.reaktivity.specification.amqp.internal.types.AmqpPropertiesFW;
 import org.reaktivity.specification.amqp.internal.types.AmqpReceiverSettleMode;
 import org.reaktivity.specification.amqp.internal.types.AmqpSenderSettleMode;
+import org.reaktivity.specification.amqp.internal.types.AmqpStreamMode;
 import org.reaktivity.specification.amqp.internal.types.AmqpTransferFlag;
 import org.reaktivity.specification.amqp.internal.types.Array32FW;
+import org.reaktivity.specification.amqp.internal.types.OctetsFW;
 import org.reaktivity.specification.amqp.internal.types.stream.AmqpAbortExFW;
 import org.reaktivity.specification.amqp.internal.types.stream.AmqpBeginExFW;
 import org.reaktivity.specification.amqp.internal.types.stream.AmqpDataExFW;
+import org.reaktivity.specification.amqp.internal.types.stream.AmqpFlushExFW;
 
 public final class AmqpFunctions
 {
@@ -75,11 +86,36 @@ public final class AmqpFunctions
     private static final byte SYM8_TYPE = (byte) 0xa3;
     private static final byte SYM32_TYPE = (byte) 0xb3;
 
+    private static final byte DESCRIBED_TYPE = 0x00;
+    private static final byte LIST0_TYPE = 0x45;
+    private static final byte LIST8_TYPE = (byte) 0xc0;
+    private static final byte LIST32_TYPE = (byte) 0xd0;
+    private static final byte MAP8_TYPE = (byte) 0xc1;
+    private static final byte MAP32_TYPE = (byte) 0xd1;
+    private static final byte ARRAY8_TYPE = (byte) 0xe0;
+    private static final byte ARRAY32_TYPE = (byte) 0xf0;
+
+    private static final int OPEN_PERFORMATIVE = 0x10;
+    private static final int BEGIN_PERFORMATIVE = 0x11;
+    private static final int ATTACH_PERFORMATIVE = 0x12;
+    private static final int FLOW_PERFORMATIVE = 0x13;
+    private static final int TRANSFER_PERFORMATIVE = 0x14;
+    private static final int DISPOSITION_PERFORMATIVE = 0x15;
+    private static final int DETACH_PERFORMATIVE = 0x16;
+    private static final int END_PERFORMATIVE = 0x17;
+    private static final int CLOSE_PERFORMATIVE = 0x18;
+    private static final byte ERROR_DESCRIPTOR = 0x1d;
+    private static final int RECEIVED_DESCRIPTOR = 0x23;
+    private static final int SOURCE_DESCRIPTOR = 0x28;
+    private static final int TARGET_DESCRIPTOR = 0x29;
+
     private static final int CONSTRUCTOR_BYTE_SIZE = 1;
     private static final int FIXED_SIZE1 = 1;
     private static final int FIXED_SIZE2 = 2;
     private static final int FIXED_SIZE4 = 4;
     private static final int FIXED_SIZE8 = 8;
+    private static final int LIST8_HEADER_SIZE = 3;
+    private static final int LIST32_HEADER_SIZE = 9;
 
     private static final Map<String, Byte> BYTES_BY_NAMES;
     static
@@ -160,6 +196,13 @@ public final class AmqpFunctions
             return this;
         }
 
+        public AmqpBeginExBuilder mode(
+            String mode)
+        {
+            beginExRW.mode(m -> m.set(AmqpStreamMode.valueOf(mode)));
+            return this;
+        }
+
         public byte[] build()
         {
             final AmqpBeginExFW amqpBeginEx = beginExRW.build();
@@ -172,6 +215,7 @@ public final class AmqpFunctions
     public static class AmqpDataExBuilder
     {
         private final AmqpDataExFW.Builder dataExRW;
+        private AmqpHeaderFW.Builder headerRW;
         private AmqpPropertiesFW.Builder propertiesRW;
         private boolean isPropertiesSet;
 
@@ -237,6 +281,50 @@ public final class AmqpFunctions
             return this;
         }
 
+        public AmqpDataExBuilder durable(
+            boolean durable)
+        {
+            header().durable(durable ? 1 : 0);
+            return this;
+        }
+
+        public AmqpDataExBuilder priority(
+            int priority)
+        {
+            header().priority(priority);
+            return this;
+        }
+
+        public AmqpDataExBuilder ttl(
+            long ttl)
+        {
+            header().ttl(ttl);
+            return this;
+        }
+
+        public AmqpDataExBuilder firstAcquirer(
+            boolean firstAcquirer)
+        {
+            header().firstAcquirer(firstAcquirer ? 1 : 0);
+            return this;
+        }
+
+        public AmqpDataExBuilder deliveryCount(
+            long deliveryCount)
+        {
+            header().deliveryCount(deliveryCount);
+            return this;
+        }
+
+        private AmqpHeaderFW.Builder header()
+        {
+            if (headerRW == null)
+            {
+                headerRW = new AmqpHeaderFW.Builder().wrap(new UnsafeBuffer(new byte[1024]), 0, 1024);
+            }
+            return headerRW;
+        }
+
         public AmqpDataExBuilder annotation(
             Object key,
             byte[] value)
@@ -412,6 +500,41 @@ public final class AmqpFunctions
             return this;
         }
 
+        public AmqpDataExBuilder handle(
+            long handle)
+        {
+            dataExRW.handle(handle);
+            return this;
+        }
+
+        public AmqpDataExBuilder addressId(
+            int addressId)
+        {
+            dataExRW.addressId(addressId);
+            return this;
+        }
+
+        public AmqpDataExBuilder deliveryAnnotations(
+            byte[] deliveryAnnotations)
+        {
+            dataExRW.deliveryAnnotations(d -> d.set(deliveryAnnotations));
+            return this;
+        }
+
+        public AmqpDataExBuilder footer(
+            byte[] footer)
+        {
+            dataExRW.footer(f -> f.set(footer));
+            return this;
+        }
+
+        public AmqpDataExBuilder rawSections(
+            byte[] rawSections)
+        {
+            dataExRW.rawSections(r -> r.set(rawSections));
+            return this;
+        }
+
         public byte[] build()
         {
             if (propertiesRW != null && !isPropertiesSet)
@@ -419,6 +542,11 @@ public final class AmqpFunctions
                 final AmqpPropertiesFW properties = propertiesRW.build();
                 dataExRW.properties(properties);
             }
+            if (headerRW != null)
+            {
+                final AmqpHeaderFW header = headerRW.build();
+                dataExRW.header(header);
+            }
             final AmqpDataExFW amqpDataEx = dataExRW.build();
             final byte[] result = new byte[amqpDataEx.sizeof()];
             amqpDataEx.buffer().getBytes(0, result);
@@ -437,7 +565,15 @@ public final class AmqpFunctions
         private AmqpBinaryFW.Builder deliveryTagRW;
         private Long messageFormat;
         private Integer flags;
+        private AmqpHeaderFW.Builder headerRW;
         private String bodyKind;
+        private Long handle;
+        private Integer addressId;
+        private String group;
+        private Integer groupSequence;
+        private byte[] deliveryAnnotations;
+        private byte[] footer;
+        private byte[] rawSections;
         private Array32FW.Builder<AmqpAnnotationFW.Builder, AmqpAnnotationFW> annotationsRW;
         private AmqpPropertiesFW.Builder propertiesRW;
         private Array32FW.Builder<AmqpApplicationPropertyFW.Builder, AmqpApplicationPropertyFW> applicationPropertiesRW;
@@ -501,6 +637,50 @@ public final class AmqpFunctions
             return this;
         }
 
+        public AmqpDataExMatcherBuilder durable(
+            boolean durable)
+        {
+            header().durable(durable ? 1 : 0);
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder priority(
+            int priority)
+        {
+            header().priority(priority);
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder ttl(
+            long ttl)
+        {
+            header().ttl(ttl);
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder firstAcquirer(
+            boolean firstAcquirer)
+        {
+            header().firstAcquirer(firstAcquirer ? 1 : 0);
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder deliveryCount(
+            long deliveryCount)
+        {
+            header().deliveryCount(deliveryCount);
+            return this;
+        }
+
+        private AmqpHeaderFW.Builder header()
+        {
+            if (headerRW == null)
+            {
+                headerRW = new AmqpHeaderFW.Builder().wrap(new UnsafeBuffer(new byte[1024]), 0, 1024);
+            }
+            return headerRW;
+        }
+
         public AmqpDataExMatcherBuilder annotation(
             Object key,
             byte[] value)
@@ -644,6 +824,16 @@ public final class AmqpFunctions
             return this;
         }
 
+        public AmqpDataExMatcherBuilder group(
+            String groupId,
+            int groupSequence)
+        {
+            assert this.group == null;
+            this.group = groupId;
+            this.groupSequence = groupSequence;
+            return this;
+        }
+
         private AmqpPropertiesFW.Builder properties()
         {
             if (propertiesRW == null)
@@ -676,6 +866,46 @@ public final class AmqpFunctions
             return this;
         }
 
+        public AmqpDataExMatcherBuilder handle(
+            long handle)
+        {
+            assert this.handle == null;
+            this.handle = handle;
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder addressId(
+            int addressId)
+        {
+            assert this.addressId == null;
+            this.addressId = addressId;
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder deliveryAnnotations(
+            byte[] deliveryAnnotations)
+        {
+            assert this.deliveryAnnotations == null;
+            this.deliveryAnnotations = deliveryAnnotations;
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder footer(
+            byte[] footer)
+        {
+            assert this.footer == null;
+            this.footer = footer;
+            return this;
+        }
+
+        public AmqpDataExMatcherBuilder rawSections(
+            byte[] rawSections)
+        {
+            assert this.rawSections == null;
+            this.rawSections = rawSections;
+            return this;
+        }
+
         public BytesMatcher build()
         {
             return typeId != null ? this::match : buf -> null;
@@ -693,10 +923,17 @@ public final class AmqpFunctions
                 matchDeliveryTag(dataEx) &&
                 matchMessageFormat(dataEx) &&
                 matchFlags(dataEx) &&
+                matchHeader(dataEx) &&
                 matchAnnotations(dataEx) &&
                 matchProperties(dataEx) &&
+                matchGroup(dataEx) &&
                 matchApplicationProperties(dataEx) &&
-                matchBodyKind(dataEx))
+                matchBodyKind(dataEx) &&
+                matchHandle(dataEx) &&
+                matchAddressId(dataEx) &&
+                matchDeliveryAnnotations(dataEx) &&
+                matchFooter(dataEx) &&
+                matchRawSections(dataEx))
             {
                 byteBuf.position(byteBuf.position() + dataEx.sizeof());
                 return dataEx;
@@ -735,6 +972,12 @@ public final class AmqpFunctions
             return flags == null || flags == dataEx.flags();
         }
 
+        private boolean matchHeader(
+            final AmqpDataExFW dataEx)
+        {
+            return headerRW == null || headerRW.build().equals(dataEx.header());
+        }
+
         private boolean matchAnnotations(
             final AmqpDataExFW dataEx)
         {
@@ -747,6 +990,15 @@ public final class AmqpFunctions
             return propertiesRW == null || propertiesRW.build().equals(dataEx.properties());
         }
 
+        private boolean matchGroup(
+            final AmqpDataExFW dataEx)
+        {
+            final AmqpPropertiesFW properties = dataEx.properties();
+            return group == null ||
+                properties.hasGroupId() && group.equals(properties.groupId().asString()) &&
+                properties.hasGroupSequence() && groupSequence == properties.groupSequence();
+        }
+
         private boolean matchApplicationProperties(
             final AmqpDataExFW dataEx)
         {
@@ -758,6 +1010,48 @@ public final class AmqpFunctions
         {
             return bodyKind == null || bodyKind.equals(dataEx.bodyKind().get().name());
         }
+
+        private boolean matchHandle(
+            final AmqpDataExFW dataEx)
+        {
+            return handle == null || handle == dataEx.handle();
+        }
+
+        private boolean matchAddressId(
+            final AmqpDataExFW dataEx)
+        {
+            return addressId == null || addressId == dataEx.addressId();
+        }
+
+        private boolean matchDeliveryAnnotations(
+            final AmqpDataExFW dataEx)
+        {
+            return deliveryAnnotations == null || matchOctets(deliveryAnnotations, dataEx.deliveryAnnotations());
+        }
+
+        private boolean matchFooter(
+            final AmqpDataExFW dataEx)
+        {
+            return footer == null || matchOctets(footer, dataEx.footer());
+        }
+
+        private boolean matchRawSections(
+            final AmqpDataExFW dataEx)
+        {
+            return rawSections == null || matchOctets(rawSections, dataEx.rawSections());
+        }
+
+        private static boolean matchOctets(
+            byte[] expected,
+            OctetsFW octets)
+        {
+            boolean matches = octets != null && octets.sizeof() == expected.length;
+            for (int index = 0; matches && index < expected.length; index++)
+            {
+                matches = octets.buffer().getByte(octets.offset() + index) == expected[index];
+            }
+            return matches;
+        }
     }
 
     public static class AmqpAbortExBuilder
@@ -794,117 +1088,2380 @@ public final class AmqpFunctions
         }
     }
 
-    @Function
-    public static AmqpBeginExBuilder beginEx()
+    public static final class AmqpAbortExMatcherBuilder
     {
-        return new AmqpBeginExBuilder();
-    }
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
 
-    @Function
-    public static AmqpDataExBuilder dataEx()
-    {
-        return new AmqpDataExBuilder();
-    }
+        private final AmqpAbortExFW abortExRO = new AmqpAbortExFW();
 
-    @Function
-    public static AmqpDataExMatcherBuilder matchDataEx()
-    {
-        return new AmqpDataExMatcherBuilder();
-    }
+        private Integer typeId;
+        private String condition;
 
-    @Function
-    public static AmqpAbortExBuilder abortEx()
-    {
-        return new AmqpAbortExBuilder();
-    }
+        public AmqpAbortExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
 
-    @Function
-    public static byte[] randomBytes(
-        int length)
-    {
-        Random random = ThreadLocalRandom.current();
-        byte[] bytes = new byte[length];
-        for (int i = 0; i < length; i++)
+        public AmqpAbortExMatcherBuilder condition(
+            String condition)
         {
-            bytes[i] = (byte) random.nextInt(0x100);
+            assert this.condition == null;
+            this.condition = condition;
+            return this;
         }
-        return bytes;
-    }
 
-    @Function
-    public static String randomString(
-        int length)
-    {
-        int leftLimit = 97;
-        int rightLimit = 122;
-        Random random = new Random();
-        StringBuilder buffer = new StringBuilder(length);
-        for (int i = 0; i < length; i++)
+        public BytesMatcher build()
         {
-            int randomLimitedInt = leftLimit + (int) (random.nextFloat() * (rightLimit - leftLimit + 1));
-            buffer.append((char) randomLimitedInt);
+            return typeId != null ? this::match : buf -> null;
         }
-        return buffer.toString();
-    }
 
-    @Function(name = "_null")
-    public static byte[] nullValue()
-    {
-        return NULL_TYPE;
-    }
+        private AmqpAbortExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            bufferRO.wrap(byteBuf);
+            final AmqpAbortExFW abortEx = abortExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.capacity());
 
-    @Function(name = "boolean")
-    public static byte[] booleanValue(
-        boolean value)
-    {
-        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
-        byte byteValue = (byte) (value ? 0x01 : 0x00);
-        return ByteBuffer.allocate(byteLength).put(BOOLEAN_TYPE).put(byteValue).array();
-    }
+            if (abortEx != null &&
+                matchTypeId(abortEx) &&
+                matchCondition(abortEx))
+            {
+                byteBuf.position(byteBuf.position() + abortEx.sizeof());
+                return abortEx;
+            }
 
-    @Function(name = "_true")
-    public static byte[] trueValue()
-    {
-        return TRUE_TYPE;
-    }
+            throw new Exception(abortEx.toString());
+        }
 
-    @Function(name = "_false")
-    public static byte[] falseValue()
-    {
-        return FALSE_TYPE;
-    }
+        private boolean matchTypeId(
+            final AmqpAbortExFW abortEx)
+        {
+            return typeId == abortEx.typeId();
+        }
 
-    @Function
-    public static byte[] ubyte(
-        int value)
-    {
-        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
-        return ByteBuffer.allocate(byteLength).put(UBYTE_TYPE).put((byte) value).array();
+        private boolean matchCondition(
+            final AmqpAbortExFW abortEx)
+        {
+            return condition == null || condition.equals(abortEx.condition().asString());
+        }
     }
 
-    @Function
-    public static byte[] ushort(
-        int value)
+    public static class AmqpFlushExBuilder
     {
-        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE2;
-        return ByteBuffer.allocate(byteLength).put(USHORT_TYPE).putShort((short) value).array();
-    }
+        private final AmqpFlushExFW.Builder flushExRW;
 
-    @Function
-    public static byte[] uint(
-        long value)
-    {
-        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE4;
-        return ByteBuffer.allocate(byteLength).put(UINT_TYPE).putInt((int) value).array();
-    }
+        public AmqpFlushExBuilder()
+        {
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[MAX_BUFFER_SIZE]);
+            this.flushExRW = new AmqpFlushExFW.Builder()
+                .wrap(writeBuffer, 0, writeBuffer.capacity());
+        }
 
-    @Function
-    public static byte[] smalluint(
-        int value)
-    {
-        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
-        return ByteBuffer.allocate(byteLength).put(SMALLUINT_TYPE).put((byte) value).array();
-    }
+        public AmqpFlushExBuilder typeId(
+            int typeId)
+        {
+            flushExRW.typeId(typeId);
+            return this;
+        }
+
+        public AmqpFlushExBuilder capabilities(
+            String capabilities)
+        {
+            flushExRW.capabilities(r -> r.set(AmqpCapabilities.valueOf(capabilities)));
+            return this;
+        }
+
+        public AmqpFlushExBuilder disposition(
+            String state,
+            long first,
+            long last,
+            String... flags)
+        {
+            final int value = dispositionFlags(flags);
+            flushExRW.dispositionsItem(d -> d.first(first)
+                                             .last(last)
+                                             .flags(value)
+                                             .state(s -> s.set(AmqpDeliveryState.valueOf(state))));
+            return this;
+        }
+
+        public byte[] build()
+        {
+            final AmqpFlushExFW amqpFlushEx = flushExRW.build();
+            final byte[] result = new byte[amqpFlushEx.sizeof()];
+            amqpFlushEx.buffer().getBytes(0, result);
+            return result;
+        }
+    }
+
+    public static final class AmqpFlushExMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+
+        private final AmqpFlushExFW flushExRO = new AmqpFlushExFW();
+
+        private Integer typeId;
+        private String capabilities;
+        private Array32FW.Builder<AmqpDispositionFW.Builder, AmqpDispositionFW> dispositionsRW;
+
+        public AmqpFlushExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
+
+        public AmqpFlushExMatcherBuilder capabilities(
+            String capabilities)
+        {
+            assert this.capabilities == null;
+            this.capabilities = capabilities;
+            return this;
+        }
+
+        public AmqpFlushExMatcherBuilder disposition(
+            String state,
+            long first,
+            long last,
+            String... flags)
+        {
+            if (dispositionsRW == null)
+            {
+                this.dispositionsRW = new Array32FW.Builder<>(new AmqpDispositionFW.Builder(), new AmqpDispositionFW())
+                    .wrap(new UnsafeBuffer(new byte[1024]), 0, 1024);
+            }
+            final int value = dispositionFlags(flags);
+            dispositionsRW.item(d -> d.first(first)
+                                      .last(last)
+                                      .flags(value)
+                                      .state(s -> s.set(AmqpDeliveryState.valueOf(state))));
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return typeId != null ? this::match : buf -> null;
+        }
+
+        private AmqpFlushExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            bufferRO.wrap(byteBuf);
+            final AmqpFlushExFW flushEx = flushExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.capacity());
+
+            if (flushEx != null &&
+                matchTypeId(flushEx) &&
+                matchCapabilities(flushEx) &&
+                matchDispositions(flushEx))
+            {
+                byteBuf.position(byteBuf.position() + flushEx.sizeof());
+                return flushEx;
+            }
+
+            throw new Exception(flushEx.toString());
+        }
+
+        private boolean matchTypeId(
+            final AmqpFlushExFW flushEx)
+        {
+            return typeId == flushEx.typeId();
+        }
+
+        private boolean matchCapabilities(
+            final AmqpFlushExFW flushEx)
+        {
+            return capabilities == null || capabilities.equals(flushEx.capabilities().get().name());
+        }
+
+        private boolean matchDispositions(
+            final AmqpFlushExFW flushEx)
+        {
+            return dispositionsRW == null || dispositionsRW.build().equals(flushEx.dispositions());
+        }
+    }
+
+    public static final class AmqpRandomMessage
+    {
+        private static final int MAX_ANNOTATIONS = 4;
+        private static final int MAX_APPLICATION_PROPERTIES = 8;
+        private static final int MAX_SEQUENCE_ITEMS = 3;
+        private static final int MAX_STRING_LENGTH = 16;
+        private static final int MAX_BODY_SIZE = 64;
+
+        private static final byte[] DESCRIPTOR_PREFIX = new byte[] {0x00, 0x53};
+        private static final byte MESSAGE_ANNOTATIONS_SECTION = 0x72;
+        private static final byte PROPERTIES_SECTION = 0x73;
+        private static final byte APPLICATION_PROPERTIES_SECTION = 0x74;
+        private static final byte DATA_SECTION = 0x75;
+        private static final byte AMQP_SEQUENCE_SECTION = 0x76;
+        private static final byte AMQP_VALUE_SECTION = 0x77;
+
+        private static final String[] CONTENT_TYPES = {"text/plain", "application/json", "application/octet-stream"};
+        private static final String[] CONTENT_ENCODINGS = {"identity", "gzip", "deflate"};
+        private static final AmqpBodyKind[] BODY_KINDS =
+        {
+            AmqpBodyKind.DATA,
+            AmqpBodyKind.SEQUENCE,
+            AmqpBodyKind.VALUE_STRING32,
+            AmqpBodyKind.VALUE_STRING8,
+            AmqpBodyKind.VALUE_BINARY32,
+            AmqpBodyKind.VALUE_BINARY8,
+            AmqpBodyKind.VALUE_SYMBOL32,
+            AmqpBodyKind.VALUE_SYMBOL8,
+            AmqpBodyKind.VALUE
+        };
+
+        private final Random random;
+        private final Object[] annotationKeys;
+        private final byte[][] annotationValues;
+        private final Object[] properties;
+        private final String[] applicationPropertyKeys;
+        private final byte[][] applicationPropertyValues;
+        private final AmqpBodyKind bodyKind;
+        private final byte[] payload;
+        private final byte[] sections;
+
+        private AmqpRandomMessage(
+            long seed)
+        {
+            this.random = new Random(seed);
+
+            final int annotationCount = random.nextInt(MAX_ANNOTATIONS + 1);
+            this.annotationKeys = new Object[annotationCount];
+            this.annotationValues = new byte[annotationCount][];
+            for (int i = 0; i < annotationCount; i++)
+            {
+                annotationKeys[i] = random.nextInt(4) == 0 ? Long.valueOf(i) : String.format("annotation%d", i);
+                annotationValues[i] = randomValue();
+            }
+
+            this.properties = new Object[AmqpMessagePropertyKind.values().length];
+            for (AmqpMessagePropertyKind kind : AmqpMessagePropertyKind.values())
+            {
+                properties[kind.ordinal()] = random.nextBoolean() ? randomProperty(kind) : null;
+            }
+
+            final int applicationPropertyCount = random.nextInt(MAX_APPLICATION_PROPERTIES + 1);
+            this.applicationPropertyKeys = new String[applicationPropertyCount];
+            this.applicationPropertyValues = new byte[applicationPropertyCount][];
+            for (int i = 0; i < applicationPropertyCount; i++)
+            {
+                applicationPropertyKeys[i] = String.format("property%d", i);
+                applicationPropertyValues[i] = randomValue();
+            }
+
+            this.bodyKind = BODY_KINDS[random.nextInt(BODY_KINDS.length)];
+            this.payload = randomPayload(bodyKind);
+            this.sections = encodeSections();
+        }
+
+        public String bodyKind()
+        {
+            return bodyKind.name();
+        }
+
+        public byte[] payload()
+        {
+            return payload;
+        }
+
+        public byte[] sections()
+        {
+            return sections;
+        }
+
+        public byte[] dataEx(
+            int typeId)
+        {
+            final AmqpDataExBuilder dataEx = new AmqpDataExBuilder()
+                .typeId(typeId)
+                .deliveryTag("")
+                .messageFormat(0)
+                .flags("SETTLED");
+
+            for (int i = 0; i < annotationKeys.length; i++)
+            {
+                dataEx.annotation(annotationKeys[i], annotationValues[i]);
+            }
+
+            for (AmqpMessagePropertyKind kind : AmqpMessagePropertyKind.values())
+            {
+                final Object value = properties[kind.ordinal()];
+                if (value != null)
+                {
+                    setProperty(dataEx, kind, value);
+                }
+            }
+
+            for (int i = 0; i < applicationPropertyKeys.length; i++)
+            {
+                dataEx.property(applicationPropertyKeys[i], applicationPropertyValues[i]);
+            }
+
+            return dataEx.bodyKind(bodyKind.name()).build();
+        }
+
+        public byte[] transfer(
+            int channel,
+            long handle,
+            long deliveryId)
+        {
+            return new AmqpTransferBuilder()
+                .channel(channel)
+                .handle(handle)
+                .deliveryId(deliveryId)
+                .deliveryTag("")
+                .messageFormat(0)
+                .settled(true)
+                .sections(sections)
+                .build();
+        }
+
+        private byte[] encodeSections()
+        {
+            final ByteBuffer buffer = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+
+            if (annotationKeys.length != 0)
+            {
+                final ByteBuffer annotations = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+                for (int i = 0; i < annotationKeys.length; i++)
+                {
+                    final Object key = annotationKeys[i];
+                    annotations.put(key instanceof Long ? ulong((long) key) : symbol8((String) key));
+                    annotations.put(annotationValues[i]);
+                }
+                encodeSection(buffer, MESSAGE_ANNOTATIONS_SECTION);
+                encodeCompound(buffer, MAP8_TYPE, MAP32_TYPE, annotationKeys.length << 1, annotations);
+            }
+
+            int propertyCount = 0;
+            final ByteBuffer fields = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+            for (AmqpMessagePropertyKind kind : AmqpMessagePropertyKind.values())
+            {
+                final Object value = properties[kind.ordinal()];
+                if (value != null)
+                {
+                    while (propertyCount < kind.ordinal())
+                    {
+                        fields.put(NULL_TYPE);
+                        propertyCount++;
+                    }
+                    fields.put(encodeProperty(kind, value));
+                    propertyCount++;
+                }
+            }
+            if (propertyCount != 0)
+            {
+                encodeSection(buffer, PROPERTIES_SECTION);
+                encodeCompound(buffer, LIST8_TYPE, LIST32_TYPE, propertyCount, fields);
+            }
+
+            if (applicationPropertyKeys.length != 0)
+            {
+                final ByteBuffer entries = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+                for (int i = 0; i < applicationPropertyKeys.length; i++)
+                {
+                    entries.put(string8(applicationPropertyKeys[i]));
+                    entries.put(applicationPropertyValues[i]);
+                }
+                encodeSection(buffer, APPLICATION_PROPERTIES_SECTION);
+                encodeCompound(buffer, MAP8_TYPE, MAP32_TYPE, applicationPropertyKeys.length << 1, entries);
+            }
+
+            encodeBody(buffer);
+
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        }
+
+        private void encodeBody(
+            ByteBuffer buffer)
+        {
+            switch (bodyKind)
+            {
+            case DATA:
+                encodeSection(buffer, DATA_SECTION);
+                break;
+            case SEQUENCE:
+                encodeSection(buffer, AMQP_SEQUENCE_SECTION);
+                break;
+            case VALUE_STRING32:
+                encodeSection(buffer, AMQP_VALUE_SECTION);
+                buffer.put(STR32UTF8_TYPE).putInt(payload.length);
+                break;
+            case VALUE_STRING8:
+                encodeSection(buffer, AMQP_VALUE_SECTION);
+                buffer.put(STR8UTF8_TYPE).put((byte) payload.length);
+                break;
+            case VALUE_BINARY32:
+                encodeSection(buffer, AMQP_VALUE_SECTION);
+                buffer.put(VBIN32_TYPE).putInt(payload.length);
+                break;
+            case VALUE_BINARY8:
+                encodeSection(buffer, AMQP_VALUE_SECTION);
+                buffer.put(VBIN8_TYPE).put((byte) payload.length);
+                break;
+            case VALUE_SYMBOL32:
+                encodeSection(buffer, AMQP_VALUE_SECTION);
+                buffer.put(SYM32_TYPE).putInt(payload.length);
+                break;
+            case VALUE_SYMBOL8:
+                encodeSection(buffer, AMQP_VALUE_SECTION);
+                buffer.put(SYM8_TYPE).put((byte) payload.length);
+                break;
+            default:
+                encodeSection(buffer, AMQP_VALUE_SECTION);
+                break;
+            }
+            buffer.put(payload);
+        }
+
+        private static void encodeSection(
+            ByteBuffer buffer,
+            byte descriptor)
+        {
+            buffer.put(DESCRIPTOR_PREFIX).put(descriptor);
+        }
+
+        private static void encodeCompound(
+            ByteBuffer buffer,
+            byte type8,
+            byte type32,
+            int count,
+            ByteBuffer elements)
+        {
+            final int length = elements.position();
+            if (length + FIXED_SIZE1 <= 0xff && count <= 0xff)
+            {
+                buffer.put(type8).put((byte) (length + FIXED_SIZE1)).put((byte) count);
+            }
+            else
+            {
+                buffer.put(type32).putInt(length + FIXED_SIZE4).putInt(count);
+            }
+            buffer.put(elements.array(), 0, length);
+        }
+
+        private static byte[] encodeBinary8(
+            byte[] value)
+        {
+            return ByteBuffer.allocate(CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1 + value.length)
+                .put(VBIN8_TYPE)
+                .put((byte) value.length)
+                .put(value)
+                .array();
+        }
+
+        private static byte[] encodeUint(
+            long value)
+        {
+            return value == 0L ? UINT0_TYPE : value <= 0xffL ? smalluint((int) value) : uint(value);
+        }
+
+        private static byte[] encodeProperty(
+            AmqpMessagePropertyKind kind,
+            Object value)
+        {
+            switch (kind)
+            {
+            case MESSAGE_ID:
+            case CORRELATION_ID:
+                if (value instanceof Long)
+                {
+                    return ulong((long) value);
+                }
+                return value instanceof byte[] ? encodeBinary8((byte[]) value) : string8((String) value);
+            case USER_ID:
+                return binary8((String) value);
+            case CONTENT_TYPE:
+            case CONTENT_ENCODING:
+                return symbol8((String) value);
+            case ABSOLUTE_EXPIRY_TIME:
+            case CREATION_TIME:
+                return timestamp((long) value);
+            case GROUP_SEQUENCE:
+                return uint((int) value & 0xffff_ffffL);
+            default:
+                return string8((String) value);
+            }
+        }
+
+        private static void setProperty(
+            AmqpDataExBuilder dataEx,
+            AmqpMessagePropertyKind kind,
+            Object value)
+        {
+            switch (kind)
+            {
+            case MESSAGE_ID:
+                dataEx.messageId(value);
+                break;
+            case USER_ID:
+                dataEx.userId((String) value);
+                break;
+            case TO:
+                dataEx.to((String) value);
+                break;
+            case SUBJECT:
+                dataEx.subject((String) value);
+                break;
+            case REPLY_TO:
+                dataEx.replyTo((String) value);
+                break;
+            case CORRELATION_ID:
+                dataEx.correlationId(value);
+                break;
+            case CONTENT_TYPE:
+                dataEx.contentType((String) value);
+                break;
+            case CONTENT_ENCODING:
+                dataEx.contentEncoding((String) value);
+                break;
+            case ABSOLUTE_EXPIRY_TIME:
+                dataEx.absoluteExpiryTime((long) value);
+                break;
+            case CREATION_TIME:
+                dataEx.creationTime((long) value);
+                break;
+            case GROUP_ID:
+                dataEx.groupId((String) value);
+                break;
+            case GROUP_SEQUENCE:
+                dataEx.groupSequence((int) value);
+                break;
+            case REPLY_TO_GROUP_ID:
+                dataEx.replyToGroupId((String) value);
+                break;
+            }
+        }
+
+        private Object randomProperty(
+            AmqpMessagePropertyKind kind)
+        {
+            switch (kind)
+            {
+            case MESSAGE_ID:
+            case CORRELATION_ID:
+                switch (random.nextInt(3))
+                {
+                case 0:
+                    return Long.valueOf(random.nextLong() & Long.MAX_VALUE);
+                case 1:
+                    return randomText(MAX_STRING_LENGTH).getBytes(UTF_8);
+                default:
+                    return randomText(MAX_STRING_LENGTH);
+                }
+            case CONTENT_TYPE:
+                return CONTENT_TYPES[random.nextInt(CONTENT_TYPES.length)];
+            case CONTENT_ENCODING:
+                return CONTENT_ENCODINGS[random.nextInt(CONTENT_ENCODINGS.length)];
+            case ABSOLUTE_EXPIRY_TIME:
+            case CREATION_TIME:
+                return Long.valueOf(random.nextLong() & Long.MAX_VALUE);
+            case GROUP_SEQUENCE:
+                return Integer.valueOf(random.nextInt(Integer.MAX_VALUE));
+            default:
+                return randomText(MAX_STRING_LENGTH);
+            }
+        }
+
+        private byte[] randomPayload(
+            AmqpBodyKind kind)
+        {
+            switch (kind)
+            {
+            case DATA:
+                return encodeBinary8(randomData(MAX_BODY_SIZE));
+            case SEQUENCE:
+                return randomSequence();
+            case VALUE_BINARY32:
+            case VALUE_BINARY8:
+                return randomData(MAX_BODY_SIZE);
+            case VALUE:
+                return randomValue();
+            default:
+                return randomText(MAX_BODY_SIZE).getBytes(UTF_8);
+            }
+        }
+
+        private byte[] randomSequence()
+        {
+            final int itemCount = 1 + random.nextInt(MAX_SEQUENCE_ITEMS);
+            final ByteBuffer items = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+            for (int i = 0; i < itemCount; i++)
+            {
+                items.put(string8(randomText(MAX_STRING_LENGTH)));
+            }
+            final ByteBuffer sequence = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+            encodeCompound(sequence, LIST8_TYPE, LIST32_TYPE, itemCount, items);
+            return Arrays.copyOf(sequence.array(), sequence.position());
+        }
+
+        private byte[] randomValue()
+        {
+            switch (random.nextInt(12))
+            {
+            case 0:
+                return nullValue();
+            case 1:
+                return booleanValue(random.nextBoolean());
+            case 2:
+                return random.nextBoolean() ? trueValue() : falseValue();
+            case 3:
+                return ubyte(random.nextInt(0x100));
+            case 4:
+                return uint(random.nextInt() & 0xffff_ffffL);
+            case 5:
+                return smallint(random.nextInt(0x100) - 0x80);
+            case 6:
+                return longValue(random.nextLong());
+            case 7:
+                return timestamp(random.nextLong() & Long.MAX_VALUE);
+            case 8:
+                return binary8(randomText(MAX_STRING_LENGTH));
+            case 9:
+                return string32(randomText(MAX_STRING_LENGTH));
+            case 10:
+                return symbol8(randomText(MAX_STRING_LENGTH));
+            default:
+                return string8(randomText(MAX_STRING_LENGTH));
+            }
+        }
+
+        private byte[] randomData(
+            int maxLength)
+        {
+            final byte[] bytes = new byte[1 + random.nextInt(maxLength)];
+            random.nextBytes(bytes);
+            return bytes;
+        }
+
+        private String randomText(
+            int maxLength)
+        {
+            final int length = 1 + random.nextInt(maxLength);
+            final StringBuilder text = new StringBuilder(length);
+            for (int i = 0; i < length; i++)
+            {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+            return text.toString();
+        }
+    }
+
+    public static final class AmqpSectionBuilder
+    {
+        private static final byte[] DESCRIPTOR_PREFIX = new byte[] {0x00, 0x53};
+
+        private final ByteBuffer sections = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+        private final ByteBuffer elements = ByteBuffer.allocate(MAX_BUFFER_SIZE);
+        private byte descriptor;
+        private boolean list;
+        private int count;
+
+        private AmqpSectionBuilder(
+            String kind)
+        {
+            begin(kind);
+        }
+
+        public AmqpSectionBuilder field(
+            byte[] value)
+        {
+            elements.put(value);
+            count++;
+            return this;
+        }
+
+        public AmqpSectionBuilder entry(
+            byte[] key,
+            byte[] value)
+        {
+            elements.put(key).put(value);
+            count += 2;
+            return this;
+        }
+
+        public AmqpSectionBuilder section(
+            String kind)
+        {
+            end();
+            begin(kind);
+            return this;
+        }
+
+        public byte[] build()
+        {
+            end();
+            return Arrays.copyOf(sections.array(), sections.position());
+        }
+
+        private void begin(
+            String kind)
+        {
+            switch (kind)
+            {
+            case "HEADER":
+                this.descriptor = 0x70;
+                break;
+            case "DELIVERY_ANNOTATIONS":
+                this.descriptor = 0x71;
+                break;
+            case "MESSAGE_ANNOTATIONS":
+                this.descriptor = 0x72;
+                break;
+            case "PROPERTIES":
+                this.descriptor = 0x73;
+                break;
+            case "APPLICATION_PROPERTIES":
+                this.descriptor = 0x74;
+                break;
+            case "FOOTER":
+                this.descriptor = 0x78;
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("unexpected section: %s", kind));
+            }
+
+            this.list = descriptor == 0x70 || descriptor == 0x73;
+            this.count = 0;
+            elements.clear();
+        }
+
+        private void end()
+        {
+            sections.put(DESCRIPTOR_PREFIX).put(descriptor);
+
+            final int length = elements.position();
+            if (list && count == 0)
+            {
+                sections.put(LIST0_TYPE);
+            }
+            else if (length + FIXED_SIZE1 <= 0xff && count <= 0xff)
+            {
+                sections.put(list ? LIST8_TYPE : MAP8_TYPE).put((byte) (length + FIXED_SIZE1)).put((byte) count);
+            }
+            else
+            {
+                sections.put(list ? LIST32_TYPE : MAP32_TYPE).putInt(length + FIXED_SIZE4).putInt(count);
+            }
+            sections.put(elements.array(), 0, length);
+        }
+    }
+
+    public abstract static class AmqpFrameBuilder<T extends AmqpFrameBuilder<T>>
+    {
+        private static final int FRAME_HEADER_SIZE = 8;
+        private static final int DATA_OFFSET = 2;
+
+        private final MutableDirectBuffer frameRW = new ExpandableArrayBuffer();
+        private final MutableDirectBuffer fieldsRW = new ExpandableArrayBuffer();
+        private final int performative;
+
+        private int channel;
+        private int fieldCount;
+        private int fieldsLimit;
+        private byte[] payload;
+
+        protected AmqpFrameBuilder(
+            int performative)
+        {
+            this.performative = performative;
+        }
+
+        public T channel(
+            int channel)
+        {
+            this.channel = channel;
+            return self();
+        }
+
+        public byte[] build()
+        {
+            int limit = FRAME_HEADER_SIZE;
+            frameRW.putByte(limit++, DESCRIBED_TYPE);
+            frameRW.putByte(limit++, SMALLULONG_TYPE);
+            frameRW.putByte(limit++, (byte) performative);
+            limit = encodeList(frameRW, limit, fieldsRW, fieldsLimit, fieldCount);
+
+            if (payload != null)
+            {
+                frameRW.putBytes(limit, payload);
+                limit += payload.length;
+            }
+
+            frameRW.putInt(0, limit, BIG_ENDIAN);
+            frameRW.putByte(4, (byte) DATA_OFFSET);
+            frameRW.putByte(5, (byte) 0x00);
+            frameRW.putShort(6, (short) channel, BIG_ENDIAN);
+
+            final byte[] result = new byte[limit];
+            frameRW.getBytes(0, result);
+            return result;
+        }
+
+        protected void payload(
+            byte[] payload)
+        {
+            this.payload = payload;
+        }
+
+        protected void putUint(
+            int index,
+            long value)
+        {
+            fieldsLimit = encodeUint(fieldsRW, field(index), value);
+        }
+
+        protected void putUlong(
+            int index,
+            long value)
+        {
+            int offset = field(index);
+            if (value == 0L)
+            {
+                fieldsRW.putByte(offset++, ULONG0_TYPE[0]);
+            }
+            else if (value > 0L && value <= 0xffL)
+            {
+                fieldsRW.putByte(offset++, SMALLULONG_TYPE);
+                fieldsRW.putByte(offset++, (byte) value);
+            }
+            else
+            {
+                fieldsRW.putByte(offset++, ULONG_TYPE);
+                fieldsRW.putLong(offset, value, BIG_ENDIAN);
+                offset += FIXED_SIZE8;
+            }
+            fieldsLimit = offset;
+        }
+
+        protected void putUshort(
+            int index,
+            int value)
+        {
+            final int offset = field(index);
+            fieldsRW.putByte(offset, USHORT_TYPE);
+            fieldsRW.putShort(offset + CONSTRUCTOR_BYTE_SIZE, (short) value, BIG_ENDIAN);
+            fieldsLimit = offset + CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE2;
+        }
+
+        protected void putUbyte(
+            int index,
+            int value)
+        {
+            final int offset = field(index);
+            fieldsRW.putByte(offset, UBYTE_TYPE);
+            fieldsRW.putByte(offset + CONSTRUCTOR_BYTE_SIZE, (byte) value);
+            fieldsLimit = offset + CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
+        }
+
+        protected void putBoolean(
+            int index,
+            boolean value)
+        {
+            final int offset = field(index);
+            fieldsRW.putByte(offset, value ? TRUE_TYPE[0] : FALSE_TYPE[0]);
+            fieldsLimit = offset + CONSTRUCTOR_BYTE_SIZE;
+        }
+
+        protected void putString(
+            int index,
+            String value)
+        {
+            fieldsLimit = encodeVariable(fieldsRW, field(index), STR8UTF8_TYPE, STR32UTF8_TYPE, value.getBytes(UTF_8));
+        }
+
+        protected void putSymbol(
+            int index,
+            String value)
+        {
+            fieldsLimit = encodeVariable(fieldsRW, field(index), SYM8_TYPE, SYM32_TYPE, value.getBytes(UTF_8));
+        }
+
+        protected void putBinary(
+            int index,
+            byte[] value)
+        {
+            fieldsLimit = encodeVariable(fieldsRW, field(index), VBIN8_TYPE, VBIN32_TYPE, value);
+        }
+
+        protected void putSymbols(
+            int index,
+            String... values)
+        {
+            final byte[][] symbols = new byte[values.length][];
+            int maxLength = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                symbols[i] = values[i].getBytes(UTF_8);
+                maxLength = Math.max(maxLength, symbols[i].length);
+            }
+
+            final boolean symbol8 = maxLength <= 0xff;
+            final int sizeofLength = symbol8 ? FIXED_SIZE1 : FIXED_SIZE4;
+            int length = CONSTRUCTOR_BYTE_SIZE;
+            for (byte[] symbol : symbols)
+            {
+                length += sizeofLength + symbol.length;
+            }
+
+            int offset = field(index);
+            if (symbol8 && length + FIXED_SIZE1 <= 0xff && values.length <= 0xff)
+            {
+                fieldsRW.putByte(offset++, ARRAY8_TYPE);
+                fieldsRW.putByte(offset++, (byte) (length + FIXED_SIZE1));
+                fieldsRW.putByte(offset++, (byte) values.length);
+            }
+            else
+            {
+                fieldsRW.putByte(offset++, ARRAY32_TYPE);
+                fieldsRW.putInt(offset, length + FIXED_SIZE4, BIG_ENDIAN);
+                fieldsRW.putInt(offset + FIXED_SIZE4, values.length, BIG_ENDIAN);
+                offset += FIXED_SIZE8;
+            }
+
+            fieldsRW.putByte(offset++, symbol8 ? SYM8_TYPE : SYM32_TYPE);
+            for (byte[] symbol : symbols)
+            {
+                if (symbol8)
+                {
+                    fieldsRW.putByte(offset++, (byte) symbol.length);
+                }
+                else
+                {
+                    fieldsRW.putInt(offset, symbol.length, BIG_ENDIAN);
+                    offset += FIXED_SIZE4;
+                }
+                fieldsRW.putBytes(offset, symbol);
+                offset += symbol.length;
+            }
+            fieldsLimit = offset;
+        }
+
+        protected void putTerminus(
+            int index,
+            int descriptor,
+            String address)
+        {
+            int offset = field(index);
+            fieldsRW.putByte(offset++, DESCRIBED_TYPE);
+            fieldsRW.putByte(offset++, SMALLULONG_TYPE);
+            fieldsRW.putByte(offset++, (byte) descriptor);
+            final int addressLimit = encodeVariable(fieldsRW, offset + LIST8_HEADER_SIZE, STR8UTF8_TYPE, STR32UTF8_TYPE,
+                address.getBytes(UTF_8));
+            fieldsRW.putByte(offset, LIST8_TYPE);
+            fieldsRW.putByte(offset + 1, (byte) (addressLimit - offset - LIST8_HEADER_SIZE + FIXED_SIZE1));
+            fieldsRW.putByte(offset + 2, (byte) 1);
+            fieldsLimit = addressLimit;
+        }
+
+        protected void putError(
+            int index,
+            String condition)
+        {
+            int offset = field(index);
+            fieldsRW.putByte(offset++, DESCRIBED_TYPE);
+            fieldsRW.putByte(offset++, SMALLULONG_TYPE);
+            fieldsRW.putByte(offset++, ERROR_DESCRIPTOR);
+            final int conditionLimit = encodeVariable(fieldsRW, offset + LIST8_HEADER_SIZE, SYM8_TYPE, SYM32_TYPE,
+                condition.getBytes(UTF_8));
+            fieldsRW.putByte(offset, LIST8_TYPE);
+            fieldsRW.putByte(offset + 1, (byte) (conditionLimit - offset - LIST8_HEADER_SIZE + FIXED_SIZE1));
+            fieldsRW.putByte(offset + 2, (byte) 1);
+            fieldsLimit = conditionLimit;
+        }
+
+        protected void putDeliveryState(
+            int index,
+            String state)
+        {
+            final AmqpDeliveryState deliveryState = AmqpDeliveryState.valueOf(state);
+            int offset = field(index);
+            fieldsRW.putByte(offset++, DESCRIBED_TYPE);
+            fieldsRW.putByte(offset++, SMALLULONG_TYPE);
+            fieldsRW.putByte(offset++, (byte) (RECEIVED_DESCRIPTOR + deliveryState.ordinal()));
+            if (deliveryState == AmqpDeliveryState.RECEIVED)
+            {
+                fieldsRW.putByte(offset++, LIST8_TYPE);
+                fieldsRW.putByte(offset++, (byte) 0x03);
+                fieldsRW.putByte(offset++, (byte) 0x02);
+                fieldsRW.putByte(offset++, UINT0_TYPE[0]);
+                fieldsRW.putByte(offset++, ULONG0_TYPE[0]);
+            }
+            else
+            {
+                fieldsRW.putByte(offset++, LIST0_TYPE);
+            }
+            fieldsLimit = offset;
+        }
+
+        private int field(
+            int index)
+        {
+            assert index >= fieldCount;
+            int offset = fieldsLimit;
+            while (fieldCount < index)
+            {
+                fieldsRW.putByte(offset++, NULL_TYPE[0]);
+                fieldCount++;
+            }
+            fieldCount++;
+            return offset;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T self()
+        {
+            return (T) this;
+        }
+    }
+
+    public static final class AmqpOpenBuilder extends AmqpFrameBuilder<AmqpOpenBuilder>
+    {
+        private AmqpOpenBuilder()
+        {
+            super(OPEN_PERFORMATIVE);
+        }
+
+        public AmqpOpenBuilder containerId(
+            String containerId)
+        {
+            putString(0, containerId);
+            return this;
+        }
+
+        public AmqpOpenBuilder hostname(
+            String hostname)
+        {
+            putString(1, hostname);
+            return this;
+        }
+
+        public AmqpOpenBuilder maxFrameSize(
+            long maxFrameSize)
+        {
+            putUint(2, maxFrameSize);
+            return this;
+        }
+
+        public AmqpOpenBuilder channelMax(
+            int channelMax)
+        {
+            putUshort(3, channelMax);
+            return this;
+        }
+
+        public AmqpOpenBuilder idleTimeOut(
+            long idleTimeOut)
+        {
+            putUint(4, idleTimeOut);
+            return this;
+        }
+
+        public AmqpOpenBuilder outgoingLocales(
+            String... outgoingLocales)
+        {
+            putSymbols(5, outgoingLocales);
+            return this;
+        }
+
+        public AmqpOpenBuilder incomingLocales(
+            String... incomingLocales)
+        {
+            putSymbols(6, incomingLocales);
+            return this;
+        }
+
+        public AmqpOpenBuilder offeredCapabilities(
+            String... offeredCapabilities)
+        {
+            putSymbols(7, offeredCapabilities);
+            return this;
+        }
+
+        public AmqpOpenBuilder desiredCapabilities(
+            String... desiredCapabilities)
+        {
+            putSymbols(8, desiredCapabilities);
+            return this;
+        }
+    }
+
+    public static final class AmqpBeginBuilder extends AmqpFrameBuilder<AmqpBeginBuilder>
+    {
+        private AmqpBeginBuilder()
+        {
+            super(BEGIN_PERFORMATIVE);
+        }
+
+        public AmqpBeginBuilder remoteChannel(
+            int remoteChannel)
+        {
+            putUshort(0, remoteChannel);
+            return this;
+        }
+
+        public AmqpBeginBuilder nextOutgoingId(
+            long nextOutgoingId)
+        {
+            putUint(1, nextOutgoingId);
+            return this;
+        }
+
+        public AmqpBeginBuilder incomingWindow(
+            long incomingWindow)
+        {
+            putUint(2, incomingWindow);
+            return this;
+        }
+
+        public AmqpBeginBuilder outgoingWindow(
+            long outgoingWindow)
+        {
+            putUint(3, outgoingWindow);
+            return this;
+        }
+
+        public AmqpBeginBuilder handleMax(
+            long handleMax)
+        {
+            putUint(4, handleMax);
+            return this;
+        }
+
+        public AmqpBeginBuilder offeredCapabilities(
+            String... offeredCapabilities)
+        {
+            putSymbols(5, offeredCapabilities);
+            return this;
+        }
+
+        public AmqpBeginBuilder desiredCapabilities(
+            String... desiredCapabilities)
+        {
+            putSymbols(6, desiredCapabilities);
+            return this;
+        }
+    }
+
+    public static final class AmqpAttachBuilder extends AmqpFrameBuilder<AmqpAttachBuilder>
+    {
+        private AmqpAttachBuilder()
+        {
+            super(ATTACH_PERFORMATIVE);
+        }
+
+        public AmqpAttachBuilder name(
+            String name)
+        {
+            putString(0, name);
+            return this;
+        }
+
+        public AmqpAttachBuilder handle(
+            long handle)
+        {
+            putUint(1, handle);
+            return this;
+        }
+
+        public AmqpAttachBuilder role(
+            String role)
+        {
+            putBoolean(2, AmqpRole.valueOf(role) == AmqpRole.RECEIVER);
+            return this;
+        }
+
+        public AmqpAttachBuilder sndSettleMode(
+            String sndSettleMode)
+        {
+            putUbyte(3, AmqpSenderSettleMode.valueOf(sndSettleMode).ordinal());
+            return this;
+        }
+
+        public AmqpAttachBuilder rcvSettleMode(
+            String rcvSettleMode)
+        {
+            putUbyte(4, AmqpReceiverSettleMode.valueOf(rcvSettleMode).ordinal());
+            return this;
+        }
+
+        public AmqpAttachBuilder source(
+            String address)
+        {
+            putTerminus(5, SOURCE_DESCRIPTOR, address);
+            return this;
+        }
+
+        public AmqpAttachBuilder target(
+            String address)
+        {
+            putTerminus(6, TARGET_DESCRIPTOR, address);
+            return this;
+        }
+
+        public AmqpAttachBuilder incompleteUnsettled(
+            boolean incompleteUnsettled)
+        {
+            putBoolean(8, incompleteUnsettled);
+            return this;
+        }
+
+        public AmqpAttachBuilder initialDeliveryCount(
+            long initialDeliveryCount)
+        {
+            putUint(9, initialDeliveryCount);
+            return this;
+        }
+
+        public AmqpAttachBuilder maxMessageSize(
+            long maxMessageSize)
+        {
+            putUlong(10, maxMessageSize);
+            return this;
+        }
+
+        public AmqpAttachBuilder offeredCapabilities(
+            String... offeredCapabilities)
+        {
+            putSymbols(11, offeredCapabilities);
+            return this;
+        }
+
+        public AmqpAttachBuilder desiredCapabilities(
+            String... desiredCapabilities)
+        {
+            putSymbols(12, desiredCapabilities);
+            return this;
+        }
+    }
+
+    public static final class AmqpFlowBuilder extends AmqpFrameBuilder<AmqpFlowBuilder>
+    {
+        private AmqpFlowBuilder()
+        {
+            super(FLOW_PERFORMATIVE);
+        }
+
+        public AmqpFlowBuilder nextIncomingId(
+            long nextIncomingId)
+        {
+            putUint(0, nextIncomingId);
+            return this;
+        }
+
+        public AmqpFlowBuilder incomingWindow(
+            long incomingWindow)
+        {
+            putUint(1, incomingWindow);
+            return this;
+        }
+
+        public AmqpFlowBuilder nextOutgoingId(
+            long nextOutgoingId)
+        {
+            putUint(2, nextOutgoingId);
+            return this;
+        }
+
+        public AmqpFlowBuilder outgoingWindow(
+            long outgoingWindow)
+        {
+            putUint(3, outgoingWindow);
+            return this;
+        }
+
+        public AmqpFlowBuilder handle(
+            long handle)
+        {
+            putUint(4, handle);
+            return this;
+        }
+
+        public AmqpFlowBuilder deliveryCount(
+            long deliveryCount)
+        {
+            putUint(5, deliveryCount);
+            return this;
+        }
+
+        public AmqpFlowBuilder linkCredit(
+            long linkCredit)
+        {
+            putUint(6, linkCredit);
+            return this;
+        }
+
+        public AmqpFlowBuilder available(
+            long available)
+        {
+            putUint(7, available);
+            return this;
+        }
+
+        public AmqpFlowBuilder drain(
+            boolean drain)
+        {
+            putBoolean(8, drain);
+            return this;
+        }
+
+        public AmqpFlowBuilder echo(
+            boolean echo)
+        {
+            putBoolean(9, echo);
+            return this;
+        }
+    }
+
+    public static final class AmqpTransferBuilder extends AmqpFrameBuilder<AmqpTransferBuilder>
+    {
+        private AmqpTransferBuilder()
+        {
+            super(TRANSFER_PERFORMATIVE);
+        }
+
+        public AmqpTransferBuilder handle(
+            long handle)
+        {
+            putUint(0, handle);
+            return this;
+        }
+
+        public AmqpTransferBuilder deliveryId(
+            long deliveryId)
+        {
+            putUint(1, deliveryId);
+            return this;
+        }
+
+        public AmqpTransferBuilder deliveryTag(
+            String deliveryTag)
+        {
+            putBinary(2, deliveryTag.getBytes(UTF_8));
+            return this;
+        }
+
+        public AmqpTransferBuilder messageFormat(
+            long messageFormat)
+        {
+            putUint(3, messageFormat);
+            return this;
+        }
+
+        public AmqpTransferBuilder settled(
+            boolean settled)
+        {
+            putBoolean(4, settled);
+            return this;
+        }
+
+        public AmqpTransferBuilder more(
+            boolean more)
+        {
+            putBoolean(5, more);
+            return this;
+        }
+
+        public AmqpTransferBuilder rcvSettleMode(
+            String rcvSettleMode)
+        {
+            putUbyte(6, AmqpReceiverSettleMode.valueOf(rcvSettleMode).ordinal());
+            return this;
+        }
+
+        public AmqpTransferBuilder state(
+            String state)
+        {
+            putDeliveryState(7, state);
+            return this;
+        }
+
+        public AmqpTransferBuilder resume(
+            boolean resume)
+        {
+            putBoolean(8, resume);
+            return this;
+        }
+
+        public AmqpTransferBuilder aborted(
+            boolean aborted)
+        {
+            putBoolean(9, aborted);
+            return this;
+        }
+
+        public AmqpTransferBuilder batchable(
+            boolean batchable)
+        {
+            putBoolean(10, batchable);
+            return this;
+        }
+
+        public AmqpTransferBuilder sections(
+            byte[] sections)
+        {
+            payload(sections);
+            return this;
+        }
+    }
+
+    public static final class AmqpDispositionBuilder extends AmqpFrameBuilder<AmqpDispositionBuilder>
+    {
+        private AmqpDispositionBuilder()
+        {
+            super(DISPOSITION_PERFORMATIVE);
+        }
+
+        public AmqpDispositionBuilder role(
+            String role)
+        {
+            putBoolean(0, AmqpRole.valueOf(role) == AmqpRole.RECEIVER);
+            return this;
+        }
+
+        public AmqpDispositionBuilder first(
+            long first)
+        {
+            putUint(1, first);
+            return this;
+        }
+
+        public AmqpDispositionBuilder last(
+            long last)
+        {
+            putUint(2, last);
+            return this;
+        }
+
+        public AmqpDispositionBuilder settled(
+            boolean settled)
+        {
+            putBoolean(3, settled);
+            return this;
+        }
+
+        public AmqpDispositionBuilder state(
+            String state)
+        {
+            putDeliveryState(4, state);
+            return this;
+        }
+
+        public AmqpDispositionBuilder batchable(
+            boolean batchable)
+        {
+            putBoolean(5, batchable);
+            return this;
+        }
+    }
+
+    public static final class AmqpDetachBuilder extends AmqpFrameBuilder<AmqpDetachBuilder>
+    {
+        private AmqpDetachBuilder()
+        {
+            super(DETACH_PERFORMATIVE);
+        }
+
+        public AmqpDetachBuilder handle(
+            long handle)
+        {
+            putUint(0, handle);
+            return this;
+        }
+
+        public AmqpDetachBuilder closed(
+            boolean closed)
+        {
+            putBoolean(1, closed);
+            return this;
+        }
+
+        public AmqpDetachBuilder error(
+            String condition)
+        {
+            putError(2, condition);
+            return this;
+        }
+    }
+
+    public static final class AmqpEndBuilder extends AmqpFrameBuilder<AmqpEndBuilder>
+    {
+        private AmqpEndBuilder()
+        {
+            super(END_PERFORMATIVE);
+        }
+
+        public AmqpEndBuilder error(
+            String condition)
+        {
+            putError(0, condition);
+            return this;
+        }
+    }
+
+    public static final class AmqpCloseBuilder extends AmqpFrameBuilder<AmqpCloseBuilder>
+    {
+        private AmqpCloseBuilder()
+        {
+            super(CLOSE_PERFORMATIVE);
+        }
+
+        public AmqpCloseBuilder error(
+            String condition)
+        {
+            putError(0, condition);
+            return this;
+        }
+    }
+
+    public static final class AmqpFrameDecoder
+    {
+        static final int MAX_FIELDS = 16;
+
+        private final int[] fieldOffsets = new int[MAX_FIELDS];
+
+        private DirectBuffer buffer;
+        private int offset;
+        private int limit;
+        private int performative;
+        private int fieldCount;
+        private int fieldsLimit;
+
+        public AmqpFrameDecoder tryWrap(
+            DirectBuffer buffer,
+            int offset,
+            int maxLimit)
+        {
+            if (maxLimit - offset < FIXED_SIZE8)
+            {
+                return null;
+            }
+
+            final int size = buffer.getInt(offset, BIG_ENDIAN);
+            if (maxLimit - offset < size)
+            {
+                return null;
+            }
+
+            this.buffer = buffer;
+            this.offset = offset;
+            this.limit = offset + size;
+
+            int progress = offset + (buffer.getByte(offset + 4) & 0xff) * 4;
+            this.performative = -1;
+            this.fieldCount = 0;
+            this.fieldsLimit = progress;
+
+            if (progress < limit && buffer.getByte(progress) == DESCRIBED_TYPE)
+            {
+                progress++;
+                this.performative = (int) decodeUlong(buffer, progress);
+                progress += sizeofValue(buffer, progress);
+
+                final byte constructor = buffer.getByte(progress);
+                int fieldsOffset;
+                int fieldsCount;
+                switch (constructor)
+                {
+                case LIST8_TYPE:
+                    fieldsOffset = progress + LIST8_HEADER_SIZE;
+                    fieldsCount = buffer.getByte(progress + 2) & 0xff;
+                    break;
+                case LIST32_TYPE:
+                    fieldsOffset = progress + LIST32_HEADER_SIZE;
+                    fieldsCount = buffer.getInt(progress + 5, BIG_ENDIAN);
+                    break;
+                default:
+                    fieldsOffset = progress + CONSTRUCTOR_BYTE_SIZE;
+                    fieldsCount = 0;
+                    break;
+                }
+
+                if (fieldsCount < 0 || fieldsCount > MAX_FIELDS)
+                {
+                    throw new IllegalArgumentException(String.format("unexpected field count: %d", fieldsCount));
+                }
+
+                for (int i = 0; i < fieldsCount; i++)
+                {
+                    fieldOffsets[i] = fieldsOffset;
+                    fieldsOffset += sizeofValue(buffer, fieldsOffset);
+                }
+                this.fieldCount = fieldsCount;
+                this.fieldsLimit = fieldsOffset;
+            }
+
+            return this;
+        }
+
+        public int sizeof()
+        {
+            return limit - offset;
+        }
+
+        public int channel()
+        {
+            return buffer.getShort(offset + 6, BIG_ENDIAN) & 0xffff;
+        }
+
+        public int performative()
+        {
+            return performative;
+        }
+
+        public int fieldCount()
+        {
+            return fieldCount;
+        }
+
+        public boolean isNull(
+            int index)
+        {
+            return index >= fieldCount || buffer.getByte(fieldOffsets[index]) == NULL_TYPE[0];
+        }
+
+        public long uint(
+            int index)
+        {
+            return decodeUlong(buffer, fieldOffsets[index]);
+        }
+
+        public boolean bool(
+            int index)
+        {
+            final int fieldOffset = fieldOffsets[index];
+            final byte constructor = buffer.getByte(fieldOffset);
+            return constructor == TRUE_TYPE[0] ||
+                constructor == BOOLEAN_TYPE && buffer.getByte(fieldOffset + CONSTRUCTOR_BYTE_SIZE) != 0;
+        }
+
+        public String string(
+            int index)
+        {
+            final int fieldOffset = fieldOffsets[index];
+            final byte constructor = buffer.getByte(fieldOffset);
+            final boolean variable8 = constructor == VBIN8_TYPE || constructor == STR8UTF8_TYPE || constructor == SYM8_TYPE;
+            final int length = variable8 ? buffer.getByte(fieldOffset + 1) & 0xff : buffer.getInt(fieldOffset + 1, BIG_ENDIAN);
+            final int valueOffset = fieldOffset + CONSTRUCTOR_BYTE_SIZE + (variable8 ? FIXED_SIZE1 : FIXED_SIZE4);
+            return buffer.getStringWithoutLengthUtf8(valueOffset, length);
+        }
+
+        public int described(
+            int index)
+        {
+            final int fieldOffset = fieldOffsets[index];
+            return buffer.getByte(fieldOffset) == DESCRIBED_TYPE ?
+                (int) decodeUlong(buffer, fieldOffset + CONSTRUCTOR_BYTE_SIZE) : -1;
+        }
+
+        public int payloadOffset()
+        {
+            return fieldsLimit;
+        }
+
+        public int payloadLength()
+        {
+            return limit - fieldsLimit;
+        }
+    }
+
+    public abstract static class AmqpFrameMatcherBuilder<T extends AmqpFrameMatcherBuilder<T>>
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+        private final AmqpFrameDecoder frameRO = new AmqpFrameDecoder();
+        private final Object[] fields = new Object[AmqpFrameDecoder.MAX_FIELDS];
+        private final int performative;
+
+        private Integer channel;
+
+        protected AmqpFrameMatcherBuilder(
+            int performative)
+        {
+            this.performative = performative;
+        }
+
+        public T channel(
+            int channel)
+        {
+            assert this.channel == null;
+            this.channel = channel;
+            return self();
+        }
+
+        public BytesMatcher build()
+        {
+            return this::match;
+        }
+
+        protected void expect(
+            int index,
+            Object value)
+        {
+            assert fields[index] == null;
+            fields[index] = value;
+        }
+
+        private AmqpFrameDecoder match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            bufferRO.wrap(byteBuf);
+            final AmqpFrameDecoder frame = frameRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.limit());
+
+            if (frame == null)
+            {
+                return null;
+            }
+
+            if (frame.performative() != performative ||
+                channel != null && channel != frame.channel())
+            {
+                throw new Exception(String.format("unexpected frame: performative %d, channel %d",
+                    frame.performative(), frame.channel()));
+            }
+
+            for (int index = 0; index < fields.length; index++)
+            {
+                final Object expected = fields[index];
+                if (expected != null && !matchField(frame, index, expected))
+                {
+                    throw new Exception(String.format("unexpected performative %d field %d, expected %s",
+                        performative, index, expected));
+                }
+            }
+
+            byteBuf.position(frame.payloadOffset());
+            return frame;
+        }
+
+        private static boolean matchField(
+            AmqpFrameDecoder frame,
+            int index,
+            Object expected)
+        {
+            boolean matched;
+            if (expected instanceof Boolean)
+            {
+                matched = (!frame.isNull(index) && frame.bool(index)) == (Boolean) expected;
+            }
+            else if (expected instanceof AmqpDeliveryState)
+            {
+                final AmqpDeliveryState state = (AmqpDeliveryState) expected;
+                matched = !frame.isNull(index) && frame.described(index) == RECEIVED_DESCRIPTOR + state.ordinal();
+            }
+            else if (expected instanceof String)
+            {
+                matched = !frame.isNull(index) && expected.equals(frame.string(index));
+            }
+            else
+            {
+                matched = !frame.isNull(index) && frame.uint(index) == (Long) expected;
+            }
+            return matched;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T self()
+        {
+            return (T) this;
+        }
+    }
+
+    public static final class AmqpTransferMatcherBuilder extends AmqpFrameMatcherBuilder<AmqpTransferMatcherBuilder>
+    {
+        private AmqpTransferMatcherBuilder()
+        {
+            super(TRANSFER_PERFORMATIVE);
+        }
+
+        public AmqpTransferMatcherBuilder handle(
+            long handle)
+        {
+            expect(0, handle);
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder deliveryId(
+            long deliveryId)
+        {
+            expect(1, deliveryId);
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder deliveryTag(
+            String deliveryTag)
+        {
+            expect(2, deliveryTag);
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder messageFormat(
+            long messageFormat)
+        {
+            expect(3, messageFormat);
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder settled(
+            boolean settled)
+        {
+            expect(4, settled);
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder more(
+            boolean more)
+        {
+            expect(5, more);
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder state(
+            String state)
+        {
+            expect(7, AmqpDeliveryState.valueOf(state));
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder aborted(
+            boolean aborted)
+        {
+            expect(9, aborted);
+            return this;
+        }
+
+        public AmqpTransferMatcherBuilder batchable(
+            boolean batchable)
+        {
+            expect(10, batchable);
+            return this;
+        }
+    }
+
+    public static final class AmqpFlowMatcherBuilder extends AmqpFrameMatcherBuilder<AmqpFlowMatcherBuilder>
+    {
+        private AmqpFlowMatcherBuilder()
+        {
+            super(FLOW_PERFORMATIVE);
+        }
+
+        public AmqpFlowMatcherBuilder nextIncomingId(
+            long nextIncomingId)
+        {
+            expect(0, nextIncomingId);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder incomingWindow(
+            long incomingWindow)
+        {
+            expect(1, incomingWindow);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder nextOutgoingId(
+            long nextOutgoingId)
+        {
+            expect(2, nextOutgoingId);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder outgoingWindow(
+            long outgoingWindow)
+        {
+            expect(3, outgoingWindow);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder handle(
+            long handle)
+        {
+            expect(4, handle);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder deliveryCount(
+            long deliveryCount)
+        {
+            expect(5, deliveryCount);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder linkCredit(
+            long linkCredit)
+        {
+            expect(6, linkCredit);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder available(
+            long available)
+        {
+            expect(7, available);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder drain(
+            boolean drain)
+        {
+            expect(8, drain);
+            return this;
+        }
+
+        public AmqpFlowMatcherBuilder echo(
+            boolean echo)
+        {
+            expect(9, echo);
+            return this;
+        }
+    }
+
+    public static final class AmqpDispositionMatcherBuilder extends AmqpFrameMatcherBuilder<AmqpDispositionMatcherBuilder>
+    {
+        private AmqpDispositionMatcherBuilder()
+        {
+            super(DISPOSITION_PERFORMATIVE);
+        }
+
+        public AmqpDispositionMatcherBuilder role(
+            String role)
+        {
+            expect(0, AmqpRole.valueOf(role) == AmqpRole.RECEIVER);
+            return this;
+        }
+
+        public AmqpDispositionMatcherBuilder first(
+            long first)
+        {
+            expect(1, first);
+            return this;
+        }
+
+        public AmqpDispositionMatcherBuilder last(
+            long last)
+        {
+            expect(2, last);
+            return this;
+        }
+
+        public AmqpDispositionMatcherBuilder settled(
+            boolean settled)
+        {
+            expect(3, settled);
+            return this;
+        }
+
+        public AmqpDispositionMatcherBuilder state(
+            String state)
+        {
+            expect(4, AmqpDeliveryState.valueOf(state));
+            return this;
+        }
+
+        public AmqpDispositionMatcherBuilder batchable(
+            boolean batchable)
+        {
+            expect(5, batchable);
+            return this;
+        }
+    }
+
+    public static final class AmqpFlowsMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+        private final AmqpFrameDecoder frameRO = new AmqpFrameDecoder();
+
+        private Integer channel;
+        private Long nextIncomingId;
+        private Long incomingWindow;
+        private long[] handles = new long[0];
+        private long[] linkCredits = new long[0];
+
+        private AmqpFlowsMatcherBuilder()
+        {
+        }
+
+        public AmqpFlowsMatcherBuilder channel(
+            int channel)
+        {
+            assert this.channel == null;
+            this.channel = channel;
+            return this;
+        }
+
+        public AmqpFlowsMatcherBuilder nextIncomingId(
+            long nextIncomingId)
+        {
+            assert this.nextIncomingId == null;
+            this.nextIncomingId = nextIncomingId;
+            return this;
+        }
+
+        public AmqpFlowsMatcherBuilder incomingWindow(
+            long incomingWindow)
+        {
+            assert this.incomingWindow == null;
+            this.incomingWindow = incomingWindow;
+            return this;
+        }
+
+        public AmqpFlowsMatcherBuilder link(
+            long handle,
+            long linkCredit)
+        {
+            assert indexOf(handle) == -1;
+            final int index = handles.length;
+            handles = Arrays.copyOf(handles, index + 1);
+            linkCredits = Arrays.copyOf(linkCredits, index + 1);
+            handles[index] = handle;
+            linkCredits[index] = linkCredit;
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return this::match;
+        }
+
+        private ByteBuffer match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            bufferRO.wrap(byteBuf);
+
+            final boolean[] matched = new boolean[handles.length];
+            int offset = byteBuf.position();
+            int remaining = handles.length;
+            long lastNextIncomingId = -1L;
+            long lastIncomingWindow = -1L;
+
+            do
+            {
+                final AmqpFrameDecoder frame = frameRO.tryWrap(bufferRO, offset, byteBuf.limit());
+
+                if (frame == null)
+                {
+                    return null;
+                }
+
+                if (frame.performative() != FLOW_PERFORMATIVE ||
+                    channel != null && channel != frame.channel())
+                {
+                    throw new Exception(String.format("unexpected frame: performative %d, channel %d",
+                        frame.performative(), frame.channel()));
+                }
+
+                lastNextIncomingId = frame.isNull(0) ? -1L : frame.uint(0);
+                lastIncomingWindow = frame.uint(1);
+
+                if (!frame.isNull(4))
+                {
+                    final long handle = frame.uint(4);
+                    final int index = indexOf(handle);
+                    if (index == -1 || matched[index])
+                    {
+                        throw new Exception(String.format("unexpected flow for handle %d", handle));
+                    }
+
+                    final long linkCredit = frame.isNull(6) ? 0L : frame.uint(6);
+                    if (linkCredit != linkCredits[index])
+                    {
+                        throw new Exception(String.format("unexpected link-credit %d for handle %d, expected %d",
+                            linkCredit, handle, linkCredits[index]));
+                    }
+
+                    matched[index] = true;
+                    remaining--;
+                }
+
+                offset += frame.sizeof();
+            }
+            while (remaining > 0);
+
+            if (nextIncomingId != null && nextIncomingId != lastNextIncomingId ||
+                incomingWindow != null && incomingWindow != lastIncomingWindow)
+            {
+                throw new Exception(String.format("unexpected session flow: next-incoming-id %d, incoming-window %d",
+                    lastNextIncomingId, lastIncomingWindow));
+            }
+
+            byteBuf.position(offset);
+            return byteBuf;
+        }
+
+        private int indexOf(
+            long handle)
+        {
+            int index = handles.length - 1;
+            while (index >= 0 && handles[index] != handle)
+            {
+                index--;
+            }
+            return index;
+        }
+    }
+
+    @Function
+    public static AmqpBeginExBuilder beginEx()
+    {
+        return new AmqpBeginExBuilder();
+    }
+
+    @Function
+    public static AmqpDataExBuilder dataEx()
+    {
+        return new AmqpDataExBuilder();
+    }
+
+    @Function
+    public static AmqpDataExMatcherBuilder matchDataEx()
+    {
+        return new AmqpDataExMatcherBuilder();
+    }
+
+    @Function
+    public static AmqpAbortExBuilder abortEx()
+    {
+        return new AmqpAbortExBuilder();
+    }
+
+    @Function
+    public static AmqpAbortExMatcherBuilder matchAbortEx()
+    {
+        return new AmqpAbortExMatcherBuilder();
+    }
+
+    @Function
+    public static AmqpFlushExBuilder flushEx()
+    {
+        return new AmqpFlushExBuilder();
+    }
+
+    @Function
+    public static AmqpFlushExMatcherBuilder matchFlushEx()
+    {
+        return new AmqpFlushExMatcherBuilder();
+    }
+
+    @Function
+    public static AmqpOpenBuilder open()
+    {
+        return new AmqpOpenBuilder();
+    }
+
+    @Function
+    public static AmqpBeginBuilder begin()
+    {
+        return new AmqpBeginBuilder();
+    }
+
+    @Function
+    public static AmqpAttachBuilder attach()
+    {
+        return new AmqpAttachBuilder();
+    }
+
+    @Function
+    public static AmqpFlowBuilder flow()
+    {
+        return new AmqpFlowBuilder();
+    }
+
+    @Function
+    public static AmqpTransferBuilder transfer()
+    {
+        return new AmqpTransferBuilder();
+    }
+
+    @Function
+    public static AmqpDispositionBuilder disposition()
+    {
+        return new AmqpDispositionBuilder();
+    }
+
+    @Function
+    public static AmqpDetachBuilder detach()
+    {
+        return new AmqpDetachBuilder();
+    }
+
+    @Function
+    public static AmqpEndBuilder end()
+    {
+        return new AmqpEndBuilder();
+    }
+
+    @Function
+    public static AmqpCloseBuilder close()
+    {
+        return new AmqpCloseBuilder();
+    }
+
+    @Function
+    public static AmqpTransferMatcherBuilder matchTransfer()
+    {
+        return new AmqpTransferMatcherBuilder();
+    }
+
+    @Function
+    public static AmqpFlowMatcherBuilder matchFlow()
+    {
+        return new AmqpFlowMatcherBuilder();
+    }
+
+    @Function
+    public static AmqpDispositionMatcherBuilder matchDisposition()
+    {
+        return new AmqpDispositionMatcherBuilder();
+    }
+
+    @Function
+    public static AmqpFlowsMatcherBuilder matchFlows()
+    {
+        return new AmqpFlowsMatcherBuilder();
+    }
+
+    @Function
+    public static byte[] randomBytes(
+        int length)
+    {
+        Random random = ThreadLocalRandom.current();
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+        {
+            bytes[i] = (byte) random.nextInt(0x100);
+        }
+        return bytes;
+    }
+
+    @Function
+    public static String randomString(
+        int length)
+    {
+        int leftLimit = 97;
+        int rightLimit = 122;
+        Random random = new Random();
+        StringBuilder buffer = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+        {
+            int randomLimitedInt = leftLimit + (int) (random.nextFloat() * (rightLimit - leftLimit + 1));
+            buffer.append((char) randomLimitedInt);
+        }
+        return buffer.toString();
+    }
+
+    @Function
+    public static AmqpRandomMessage randomMessage(
+        long seed)
+    {
+        return new AmqpRandomMessage(seed);
+    }
+
+    @Function
+    public static AmqpSectionBuilder section(
+        String kind)
+    {
+        return new AmqpSectionBuilder(kind);
+    }
+
+    @Function
+    public static byte[] seededBytes(
+        long seed,
+        long offset,
+        int length)
+    {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+        {
+            bytes[i] = seededByte(seed, offset + i);
+        }
+        return bytes;
+    }
+
+    @Function
+    public static BytesMatcher matchSeededBytes(
+        long seed,
+        long offset,
+        int length)
+    {
+        return byteBuf ->
+        {
+            if (byteBuf.remaining() < length)
+            {
+                return null;
+            }
+
+            final int position = byteBuf.position();
+            for (int i = 0; i < length; i++)
+            {
+                if (byteBuf.get(position + i) != seededByte(seed, offset + i))
+                {
+                    throw new Exception(String.format("seeded bytes mismatch at offset %d", offset + i));
+                }
+            }
+            byteBuf.position(position + length);
+            return byteBuf;
+        };
+    }
+
+    @Function(name = "_null")
+    public static byte[] nullValue()
+    {
+        return NULL_TYPE;
+    }
+
+    @Function(name = "boolean")
+    public static byte[] booleanValue(
+        boolean value)
+    {
+        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
+        byte byteValue = (byte) (value ? 0x01 : 0x00);
+        return ByteBuffer.allocate(byteLength).put(BOOLEAN_TYPE).put(byteValue).array();
+    }
+
+    @Function(name = "_true")
+    public static byte[] trueValue()
+    {
+        return TRUE_TYPE;
+    }
+
+    @Function(name = "_false")
+    public static byte[] falseValue()
+    {
+        return FALSE_TYPE;
+    }
+
+    @Function
+    public static byte[] ubyte(
+        int value)
+    {
+        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
+        return ByteBuffer.allocate(byteLength).put(UBYTE_TYPE).put((byte) value).array();
+    }
+
+    @Function
+    public static byte[] ushort(
+        int value)
+    {
+        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE2;
+        return ByteBuffer.allocate(byteLength).put(USHORT_TYPE).putShort((short) value).array();
+    }
+
+    @Function
+    public static byte[] uint(
+        long value)
+    {
+        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE4;
+        return ByteBuffer.allocate(byteLength).put(UINT_TYPE).putInt((int) value).array();
+    }
+
+    @Function
+    public static byte[] smalluint(
+        int value)
+    {
+        int byteLength = CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
+        return ByteBuffer.allocate(byteLength).put(SMALLUINT_TYPE).put((byte) value).array();
+    }
 
     @Function
     public static byte[] uint0()
@@ -1109,6 +3666,186 @@ public final class AmqpFunctions
         return buffer.array();
     }
 
+    private static int encodeList(
+        MutableDirectBuffer buffer,
+        int offset,
+        DirectBuffer fields,
+        int fieldsLength,
+        int fieldCount)
+    {
+        if (fieldCount == 0)
+        {
+            buffer.putByte(offset++, LIST0_TYPE);
+        }
+        else if (fieldsLength + FIXED_SIZE1 <= 0xff)
+        {
+            buffer.putByte(offset++, LIST8_TYPE);
+            buffer.putByte(offset++, (byte) (fieldsLength + FIXED_SIZE1));
+            buffer.putByte(offset++, (byte) fieldCount);
+        }
+        else
+        {
+            buffer.putByte(offset++, LIST32_TYPE);
+            buffer.putInt(offset, fieldsLength + FIXED_SIZE4, BIG_ENDIAN);
+            buffer.putInt(offset + FIXED_SIZE4, fieldCount, BIG_ENDIAN);
+            offset += FIXED_SIZE8;
+        }
+        buffer.putBytes(offset, fields, 0, fieldsLength);
+        return offset + fieldsLength;
+    }
+
+    private static int encodeUint(
+        MutableDirectBuffer buffer,
+        int offset,
+        long value)
+    {
+        if (value == 0L)
+        {
+            buffer.putByte(offset++, UINT0_TYPE[0]);
+        }
+        else if (value <= 0xffL)
+        {
+            buffer.putByte(offset++, SMALLUINT_TYPE);
+            buffer.putByte(offset++, (byte) value);
+        }
+        else
+        {
+            buffer.putByte(offset++, UINT_TYPE);
+            buffer.putInt(offset, (int) value, BIG_ENDIAN);
+            offset += FIXED_SIZE4;
+        }
+        return offset;
+    }
+
+    private static int encodeVariable(
+        MutableDirectBuffer buffer,
+        int offset,
+        byte type8,
+        byte type32,
+        byte[] value)
+    {
+        if (value.length <= 0xff)
+        {
+            buffer.putByte(offset++, type8);
+            buffer.putByte(offset++, (byte) value.length);
+        }
+        else
+        {
+            buffer.putByte(offset++, type32);
+            buffer.putInt(offset, value.length, BIG_ENDIAN);
+            offset += FIXED_SIZE4;
+        }
+        buffer.putBytes(offset, value);
+        return offset + value.length;
+    }
+
+    private static long decodeUlong(
+        DirectBuffer buffer,
+        int offset)
+    {
+        final byte constructor = buffer.getByte(offset);
+        switch (constructor)
+        {
+        case SMALLUINT_TYPE:
+        case SMALLULONG_TYPE:
+        case UBYTE_TYPE:
+            return buffer.getByte(offset + CONSTRUCTOR_BYTE_SIZE) & 0xffL;
+        case USHORT_TYPE:
+            return buffer.getShort(offset + CONSTRUCTOR_BYTE_SIZE, BIG_ENDIAN) & 0xffffL;
+        case UINT_TYPE:
+            return buffer.getInt(offset + CONSTRUCTOR_BYTE_SIZE, BIG_ENDIAN) & 0xffff_ffffL;
+        case ULONG_TYPE:
+            return buffer.getLong(offset + CONSTRUCTOR_BYTE_SIZE, BIG_ENDIAN);
+        default:
+            if (constructor == UINT0_TYPE[0] || constructor == ULONG0_TYPE[0])
+            {
+                return 0L;
+            }
+            throw new IllegalArgumentException(String.format("unexpected constructor: 0x%02x", constructor & 0xff));
+        }
+    }
+
+    private static int sizeofValue(
+        DirectBuffer buffer,
+        int offset)
+    {
+        final int constructor = buffer.getByte(offset) & 0xff;
+        switch (constructor)
+        {
+        case 0x00:
+            final int descriptorSize = sizeofValue(buffer, offset + CONSTRUCTOR_BYTE_SIZE);
+            return CONSTRUCTOR_BYTE_SIZE + descriptorSize + sizeofValue(buffer, offset + CONSTRUCTOR_BYTE_SIZE + descriptorSize);
+        case 0xa0:
+        case 0xa1:
+        case 0xa3:
+        case 0xc0:
+        case 0xc1:
+        case 0xe0:
+            return CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1 + (buffer.getByte(offset + CONSTRUCTOR_BYTE_SIZE) & 0xff);
+        case 0xb0:
+        case 0xb1:
+        case 0xb3:
+        case 0xd0:
+        case 0xd1:
+        case 0xf0:
+            return CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE4 + buffer.getInt(offset + CONSTRUCTOR_BYTE_SIZE, BIG_ENDIAN);
+        default:
+            switch (constructor >> 4)
+            {
+            case 0x5:
+                return CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE1;
+            case 0x6:
+                return CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE2;
+            case 0x7:
+                return CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE4;
+            case 0x8:
+                return CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE8;
+            case 0x9:
+                return CONSTRUCTOR_BYTE_SIZE + FIXED_SIZE8 + FIXED_SIZE8;
+            default:
+                return CONSTRUCTOR_BYTE_SIZE;
+            }
+        }
+    }
+
+    private static byte seededByte(
+        long seed,
+        long index)
+    {
+        // splitmix64 per 8-byte block, so any offset is generated without the preceding bytes
+        long value = seed + (index >>> 3) * 0x9e3779b97f4a7c15L;
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        value = value ^ (value >>> 31);
+        return (byte) (value >>> ((index & 0x07) << 3));
+    }
+
+    private static int dispositionFlags(
+        String... flags)
+    {
+        int value = 0;
+        for (String flag : flags)
+        {
+            AmqpDispositionFlag dispositionFlag = AmqpDispositionFlag.valueOf(flag);
+            switch (dispositionFlag)
+            {
+            case SETTLED:
+                value |= 1;
+                break;
+            case BATCHABLE:
+                value |= 2;
+                break;
+            }
+        }
+        return value;
+    }
+
+    private enum AmqpRole
+    {
+        SENDER,
+        RECEIVER
+    }
+
     public static class Mapper extends FunctionMapperSpi.Reflective
     {
         public Mapper()
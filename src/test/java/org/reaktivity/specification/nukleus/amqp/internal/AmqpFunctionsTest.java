@@ -18,27 +18,48 @@ package org.reaktivity.specification.nukleus.amqp.internal;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.kaazing.k3po.lang.internal.el.ExpressionFactoryUtils.newExpressionFactory;
 import static org.reaktivity.specification.amqp.internal.types.AmqpBodyKind.VALUE;
+import static org.reaktivity.specification.amqp.internal.types.AmqpDeliveryState.ACCEPTED;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.abortEx;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.attach;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.begin;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.beginEx;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.binary32;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.binary8;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.booleanValue;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.byteValue;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.charValue;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.close;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.dataEx;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.detach;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.disposition;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.end;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.falseValue;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.flow;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.flushEx;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.intValue;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.longValue;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchAbortEx;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchDataEx;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchDisposition;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchFlow;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchFlows;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchFlushEx;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchSeededBytes;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.matchTransfer;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.nullValue;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.open;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.propertyTypes;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.randomBytes;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.randomMessage;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.randomString;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.section;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.seededBytes;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.shortValue;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.smallint;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.smalllong;
@@ -49,6 +70,7 @@ import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.s
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.symbol32;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.symbol8;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.timestamp;
+import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.transfer;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.trueValue;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.ubyte;
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.uint;
@@ -58,6 +80,7 @@ import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.u
 import static org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.ushort;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import javax.el.ELContext;
 import javax.el.ExpressionFactory;
@@ -69,11 +92,16 @@ import org.junit.Before;
 import org.junit.Test;
 import org.kaazing.k3po.lang.el.BytesMatcher;
 import org.kaazing.k3po.lang.internal.el.ExpressionContext;
+import org.reaktivity.specification.amqp.internal.types.AmqpCapabilities;
+import org.reaktivity.specification.amqp.internal.types.AmqpHeaderFW;
 import org.reaktivity.specification.amqp.internal.types.AmqpPropertiesFW;
 import org.reaktivity.specification.amqp.internal.types.stream.AmqpAbortExFW;
 import org.reaktivity.specification.amqp.internal.types.stream.AmqpBeginExFW;
 import org.reaktivity.specification.amqp.internal.types.stream.AmqpDataExFW;
+import org.reaktivity.specification.amqp.internal.types.stream.AmqpFlushExFW;
 import org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.AmqpBeginExBuilder;
+import org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.AmqpFrameDecoder;
+import org.reaktivity.specification.nukleus.amqp.internal.AmqpFunctions.AmqpRandomMessage;
 
 public class AmqpFunctionsTest
 {
@@ -116,6 +144,214 @@ public class AmqpFunctionsTest
         assertEquals(amqpBeginEx.receiverSettleMode().toString(), "FIRST");
     }
 
+    @Test
+    public void shouldEncodeAmqpBeginExtensionWhenMultiplexed()
+    {
+        final byte[] array = beginEx()
+            .typeId(0)
+            .address("")
+            .capabilities("SEND_AND_RECEIVE")
+            .senderSettleMode("SETTLED")
+            .receiverSettleMode("FIRST")
+            .mode("MULTIPLEXED")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpBeginExFW amqpBeginEx = new AmqpBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(amqpBeginEx.capabilities().toString(), "SEND_AND_RECEIVE");
+        assertEquals(amqpBeginEx.mode().toString(), "MULTIPLEXED");
+    }
+
+    @Test
+    public void shouldEncodeAmqpBeginExtensionWhenFanout()
+    {
+        final byte[] array = beginEx()
+            .typeId(0)
+            .address("broadcast")
+            .capabilities("RECEIVE_ONLY")
+            .senderSettleMode("SETTLED")
+            .receiverSettleMode("FIRST")
+            .mode("FANOUT")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpBeginExFW amqpBeginEx = new AmqpBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(amqpBeginEx.address().asString(), "broadcast");
+        assertEquals(amqpBeginEx.mode().toString(), "FANOUT");
+    }
+
+    @Test
+    public void shouldEncodeAmqpDataExtensionWhenMultiplexed()
+    {
+        final byte[] array = dataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .handle(2)
+            .addressId(1)
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(amqpDataEx.deferred(), 0);
+        assertEquals(amqpDataEx.handle(), 2);
+        assertEquals(amqpDataEx.addressId(), 1);
+    }
+
+    @Test
+    public void shouldEncodeAmqpDataExtensionWithDeliveryAnnotationsAndFooter()
+    {
+        final byte[] deliveryAnnotations = new byte[] {0x00, 0x53, 0x71, (byte) 0xc1, 0x01, 0x00};
+        final byte[] footer = new byte[] {0x00, 0x53, 0x78, (byte) 0xc1, 0x01, 0x00};
+
+        final byte[] array = dataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .deliveryAnnotations(deliveryAnnotations)
+            .footer(footer)
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+        final byte[] actualDeliveryAnnotations = new byte[amqpDataEx.deliveryAnnotations().sizeof()];
+        amqpDataEx.deliveryAnnotations().buffer().getBytes(amqpDataEx.deliveryAnnotations().offset(),
+            actualDeliveryAnnotations);
+        final byte[] actualFooter = new byte[amqpDataEx.footer().sizeof()];
+        amqpDataEx.footer().buffer().getBytes(amqpDataEx.footer().offset(), actualFooter);
+        assertArrayEquals(deliveryAnnotations, actualDeliveryAnnotations);
+        assertArrayEquals(footer, actualFooter);
+    }
+
+    @Test
+    public void shouldEncodeAmqpDataExtensionWithoutDeliveryAnnotationsAndFooter()
+    {
+        final byte[] array = dataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+        assertNull(amqpDataEx.deliveryAnnotations());
+        assertNull(amqpDataEx.footer());
+    }
+
+    @Test
+    public void shouldEncodeAmqpDataExtensionWithRawSections()
+    {
+        final byte[] rawSections = section("HEADER")
+            .field(falseValue())
+            .field(ubyte(4))
+            .section("APPLICATION_PROPERTIES")
+            .entry(string8("region"), string8("eu"))
+            .build();
+
+        final byte[] array = dataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .rawSections(rawSections)
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+        final byte[] actualRawSections = new byte[amqpDataEx.rawSections().sizeof()];
+        amqpDataEx.rawSections().buffer().getBytes(amqpDataEx.rawSections().offset(), actualRawSections);
+        assertArrayEquals(rawSections, actualRawSections);
+    }
+
+    @Test
+    public void shouldEncodeAmqpDataExtensionWithHeader()
+    {
+        final byte[] array = dataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .durable(true)
+            .priority(9)
+            .ttl(30000L)
+            .firstAcquirer(false)
+            .deliveryCount(2L)
+            .messageId("message1")
+            .bodyKind("VALUE")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+        AmqpHeaderFW header = amqpDataEx.header();
+        assertTrue(header.hasDurable());
+        assertEquals(1, header.durable());
+        assertTrue(header.hasPriority());
+        assertEquals(9, header.priority());
+        assertTrue(header.hasTtl());
+        assertEquals(30000L, header.ttl());
+        assertTrue(header.hasFirstAcquirer());
+        assertEquals(0, header.firstAcquirer());
+        assertTrue(header.hasDeliveryCount());
+        assertEquals(2L, header.deliveryCount());
+        assertEquals("message1", amqpDataEx.properties().messageId().stringtype().asString());
+    }
+
+    @Test
+    public void shouldEncodeAmqpDataExtensionWithHeaderOnly()
+    {
+        final byte[] array = dataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .durable(true)
+            .ttl(30000L)
+            .bodyKind("VALUE")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+        AmqpHeaderFW header = amqpDataEx.header();
+        assertTrue(header.hasDurable());
+        assertEquals(1, header.durable());
+        assertFalse(header.hasPriority());
+        assertTrue(header.hasTtl());
+        assertEquals(30000L, header.ttl());
+        assertEquals(amqpDataEx.bodyKind().get(), VALUE);
+    }
+
+    @Test
+    public void shouldEncodeAmqpDataExtensionWithHeaderThenAnnotations()
+    {
+        final byte[] array = dataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .priority(1)
+            .annotation("annotation1", "1".getBytes())
+            .property("property1", "1".getBytes())
+            .bodyKind("VALUE")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+        AmqpHeaderFW header = amqpDataEx.header();
+        assertFalse(header.hasDurable());
+        assertTrue(header.hasPriority());
+        assertEquals(1, header.priority());
+        assertFalse(header.hasTtl());
+    }
+
     @Test
     public void shouldEncodeAmqpDataExtensionWithRequiredFields()
     {
@@ -450,15 +686,14 @@ public class AmqpFunctionsTest
         assertNotNull(matcher.match(byteBuf));
     }
 
-    @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionTypeId() throws Exception
+    @Test
+    public void shouldMatchAmqpDataExtensionWhenMultiplexed() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
-            .typeId(5)
-            .deliveryTag("00")
-            .messageFormat(0)
-            .flags("SETTLED")
+            .typeId(0)
             .bodyKind("VALUE")
+            .handle(2)
+            .addressId(1)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -469,21 +704,24 @@ public class AmqpFunctionsTest
             .messageFormat(0)
             .flags(1)
             .bodyKind(b -> b.set(VALUE))
+            .handle(2)
+            .addressId(1)
             .build();
 
-        matcher.match(byteBuf);
+        assertNotNull(matcher.match(byteBuf));
     }
 
-    @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionDeferred() throws Exception
+    @Test
+    public void shouldMatchAmqpDataExtensionWithDeliveryAnnotationsAndFooter() throws Exception
     {
+        final byte[] deliveryAnnotations = new byte[] {0x00, 0x53, 0x71, (byte) 0xc1, 0x01, 0x00};
+        final byte[] footer = new byte[] {0x00, 0x53, 0x78, (byte) 0xc1, 0x01, 0x00};
+
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .deliveryTag("00")
-            .messageFormat(0)
-            .flags("SETTLED")
             .bodyKind("VALUE")
-            .deferred(120)
+            .deliveryAnnotations(deliveryAnnotations)
+            .footer(footer)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -494,21 +732,19 @@ public class AmqpFunctionsTest
             .messageFormat(0)
             .flags(1)
             .bodyKind(b -> b.set(VALUE))
-            .deferred(60)
+            .deliveryAnnotations(d -> d.set(deliveryAnnotations))
+            .footer(f -> f.set(footer))
             .build();
 
-        matcher.match(byteBuf);
+        assertNotNull(matcher.match(byteBuf));
     }
 
     @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionDeliveryTag() throws Exception
+    public void shouldNotMatchAmqpDataExtensionFooter() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .deliveryTag("01")
-            .messageFormat(0)
-            .flags("SETTLED")
-            .bodyKind("VALUE")
+            .footer(new byte[] {0x00, 0x53, 0x78, (byte) 0xc1, 0x01, 0x00})
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -519,20 +755,18 @@ public class AmqpFunctionsTest
             .messageFormat(0)
             .flags(1)
             .bodyKind(b -> b.set(VALUE))
+            .footer(f -> f.set(new byte[] {0x00, 0x53, 0x78, (byte) 0xc1, 0x03, 0x02, 0x41, 0x41}))
             .build();
 
         matcher.match(byteBuf);
     }
 
     @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionMessageFormat() throws Exception
+    public void shouldNotMatchAmqpDataExtensionWithoutDeliveryAnnotations() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .deliveryTag("00")
-            .messageFormat(1)
-            .flags("SETTLED")
-            .bodyKind("VALUE")
+            .deliveryAnnotations(new byte[] {0x00, 0x53, 0x71, (byte) 0xc1, 0x01, 0x00})
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -548,15 +782,18 @@ public class AmqpFunctionsTest
         matcher.match(byteBuf);
     }
 
-    @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionFlags() throws Exception
+    @Test
+    public void shouldMatchAmqpDataExtensionWithRawSections() throws Exception
     {
+        final byte[] rawSections = section("PROPERTIES")
+            .field(string8("message1"))
+            .field(nullValue())
+            .build();
+
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .deliveryTag("00")
-            .messageFormat(0)
-            .flags("SETTLED")
             .bodyKind("VALUE")
+            .rawSections(rawSections)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -565,20 +802,20 @@ public class AmqpFunctionsTest
             .typeId(0)
             .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
             .messageFormat(0)
-            .flags(15)
+            .flags(1)
             .bodyKind(b -> b.set(VALUE))
+            .rawSections(r -> r.set(rawSections))
             .build();
 
-        matcher.match(byteBuf);
+        assertNotNull(matcher.match(byteBuf));
     }
 
     @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionAnnotations() throws Exception
+    public void shouldNotMatchAmqpDataExtensionRawSections() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .annotation("annotation2", "2".getBytes(UTF_8))
-            .annotation(1L, "0".getBytes(UTF_8))
+            .rawSections(section("PROPERTIES").field(string8("message1")).build())
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -588,24 +825,23 @@ public class AmqpFunctionsTest
             .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
             .messageFormat(0)
             .flags(1)
-            .annotations(b -> b.item(i -> i.key(k -> k.name("annotation1"))
-                                           .value(v -> v.bytes(b2 -> b2.set("1".getBytes()))))
-                               .item(i -> i.key(k2 -> k2.id(1L))
-                                           .value(v -> v.bytes(b2 -> b2.set("0".getBytes())))))
             .bodyKind(b -> b.set(VALUE))
+            .rawSections(r -> r.set(section("PROPERTIES").field(string8("message2")).build()))
             .build();
 
         matcher.match(byteBuf);
     }
 
-    @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionProperties() throws Exception
+    @Test
+    public void shouldMatchAmqpDataExtensionWithHeader() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .messageId("message2")
-            .userId("user1")
-            .to("clients")
+            .durable(true)
+            .priority(9)
+            .ttl(30000L)
+            .firstAcquirer(false)
+            .deliveryCount(2L)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -615,22 +851,23 @@ public class AmqpFunctionsTest
             .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
             .messageFormat(0)
             .flags(1)
-            .properties(p -> p.messageId(m -> m.stringtype("message1"))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
-                              .to("clients"))
             .bodyKind(b -> b.set(VALUE))
+            .header(h -> h.durable(1)
+                          .priority(9)
+                          .ttl(30000L)
+                          .firstAcquirer(0)
+                          .deliveryCount(2L))
             .build();
 
-        matcher.match(byteBuf);
+        assertNotNull(matcher.match(byteBuf));
     }
 
     @Test(expected = Exception.class)
-    public void shouldNotMatchAmqpDataExtensionApplicationProperties() throws Exception
+    public void shouldNotMatchAmqpDataExtensionHeader() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .property("property4", "1".getBytes(UTF_8))
-            .property("property3", "2".getBytes(UTF_8))
+            .priority(9)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -640,24 +877,19 @@ public class AmqpFunctionsTest
             .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
             .messageFormat(0)
             .flags(1)
-            .properties(p -> p.messageId(m -> m.stringtype("message1"))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
-                              .to("clients"))
-            .applicationProperties(b -> b.item(i -> i.key("property1").value(v -> v.bytes(o -> o.set("1".getBytes(UTF_8)))))
-                                         .item(i -> i.key("property2").value(v -> v.bytes(o -> o.set("2".getBytes(UTF_8))))))
             .bodyKind(b -> b.set(VALUE))
+            .header(h -> h.priority(4))
             .build();
 
         matcher.match(byteBuf);
     }
 
     @Test
-    public void shouldMatchAmqpDataExtensionWithOnlyAnnotations() throws Exception
+    public void shouldMatchAmqpDataExtensionGroup() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .annotation("annotation1", "1".getBytes(UTF_8))
-            .annotation(1L, "0".getBytes(UTF_8))
+            .group("group1", 1)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -667,24 +899,21 @@ public class AmqpFunctionsTest
             .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
             .messageFormat(0)
             .flags(1)
-            .annotations(b -> b.item(i -> i.key(k -> k.name("annotation1"))
-                                           .value(v -> v.bytes(b2 -> b2.set("1".getBytes()))))
-                               .item(i -> i.key(k2 -> k2.id(1L))
-                                           .value(v -> v.bytes(b2 -> b2.set("0".getBytes())))))
+            .properties(p -> p.messageId(m -> m.stringtype("message1"))
+                              .groupId("group1")
+                              .groupSequence(1))
             .bodyKind(b -> b.set(VALUE))
             .build();
 
         assertNotNull(matcher.match(byteBuf));
     }
 
-    @Test
-    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithStringMessageId() throws Exception
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionGroupSequence() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .messageId("message1")
-            .userId("user1")
-            .to("clients")
+            .group("group1", 1)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -695,22 +924,20 @@ public class AmqpFunctionsTest
             .messageFormat(0)
             .flags(1)
             .properties(p -> p.messageId(m -> m.stringtype("message1"))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
-                              .to("clients"))
+                              .groupId("group1")
+                              .groupSequence(2))
             .bodyKind(b -> b.set(VALUE))
             .build();
 
-        assertNotNull(matcher.match(byteBuf));
+        matcher.match(byteBuf);
     }
 
-    @Test
-    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithLongMessageId() throws Exception
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionWithoutGroup() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .messageId(1L)
-            .userId("user1")
-            .to("clients")
+            .group("group1", 1)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -720,33 +947,18 @@ public class AmqpFunctionsTest
             .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
             .messageFormat(0)
             .flags(1)
-            .properties(b -> b.messageId(m -> m.ulong(1L))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
-                              .to("clients"))
             .bodyKind(b -> b.set(VALUE))
             .build();
 
-        assertNotNull(matcher.match(byteBuf));
+        matcher.match(byteBuf);
     }
 
-    @Test
-    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithBinaryMessageId() throws Exception
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionHandle() throws Exception
     {
         BytesMatcher matcher = matchDataEx()
             .typeId(0)
-            .messageId("message1".getBytes())
-            .userId("user1")
-            .to("clients")
-            .subject("subject1")
-            .replyTo("localhost")
-            .correlationId("correlationId1")
-            .contentType("content_type")
-            .contentEncoding("content_encoding")
-            .absoluteExpiryTime(12345L)
-            .creationTime(12345L)
-            .groupId("group_id1")
-            .groupSequence(1)
-            .replyToGroupId("reply_group_id")
+            .handle(3)
             .build();
 
         ByteBuffer byteBuf = ByteBuffer.allocate(1024);
@@ -756,156 +968,1656 @@ public class AmqpFunctionsTest
             .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
             .messageFormat(0)
             .flags(1)
-            .properties(p -> p.messageId(m -> m.binary(b1 -> b1.bytes(b2 -> b2.set("message1".getBytes()))))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes(UTF_8))))
-                              .to("clients")
-                              .subject("subject1")
-                              .replyTo("localhost")
-                              .correlationId(c -> c.stringtype("correlationId1"))
-                              .contentType("content_type")
-                              .contentEncoding("content_encoding")
-                              .absoluteExpiryTime(12345L)
-                              .creationTime(12345L)
-                              .groupId("group_id1")
-                              .groupSequence(1)
-                              .replyToGroupId("reply_group_id"))
             .bodyKind(b -> b.set(VALUE))
+            .handle(2)
+            .addressId(1)
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionAddressId() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .handle(2)
+            .addressId(0)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .bodyKind(b -> b.set(VALUE))
+            .handle(2)
+            .addressId(1)
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionTypeId() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(5)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionDeferred() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .deferred(120)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .bodyKind(b -> b.set(VALUE))
+            .deferred(60)
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionDeliveryTag() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .deliveryTag("01")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionMessageFormat() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(1)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionFlags() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .deliveryTag("00")
+            .messageFormat(0)
+            .flags("SETTLED")
+            .bodyKind("VALUE")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(15)
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionAnnotations() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .annotation("annotation2", "2".getBytes(UTF_8))
+            .annotation(1L, "0".getBytes(UTF_8))
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .annotations(b -> b.item(i -> i.key(k -> k.name("annotation1"))
+                                           .value(v -> v.bytes(b2 -> b2.set("1".getBytes()))))
+                               .item(i -> i.key(k2 -> k2.id(1L))
+                                           .value(v -> v.bytes(b2 -> b2.set("0".getBytes())))))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionProperties() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .messageId("message2")
+            .userId("user1")
+            .to("clients")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(p -> p.messageId(m -> m.stringtype("message1"))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
+                              .to("clients"))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDataExtensionApplicationProperties() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .property("property4", "1".getBytes(UTF_8))
+            .property("property3", "2".getBytes(UTF_8))
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(p -> p.messageId(m -> m.stringtype("message1"))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
+                              .to("clients"))
+            .applicationProperties(b -> b.item(i -> i.key("property1").value(v -> v.bytes(o -> o.set("1".getBytes(UTF_8)))))
+                                         .item(i -> i.key("property2").value(v -> v.bytes(o -> o.set("2".getBytes(UTF_8))))))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test
+    public void shouldMatchAmqpDataExtensionWithOnlyAnnotations() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .annotation("annotation1", "1".getBytes(UTF_8))
+            .annotation(1L, "0".getBytes(UTF_8))
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .annotations(b -> b.item(i -> i.key(k -> k.name("annotation1"))
+                                           .value(v -> v.bytes(b2 -> b2.set("1".getBytes()))))
+                               .item(i -> i.key(k2 -> k2.id(1L))
+                                           .value(v -> v.bytes(b2 -> b2.set("0".getBytes())))))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithStringMessageId() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .messageId("message1")
+            .userId("user1")
+            .to("clients")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(p -> p.messageId(m -> m.stringtype("message1"))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
+                              .to("clients"))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithLongMessageId() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .messageId(1L)
+            .userId("user1")
+            .to("clients")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(b -> b.messageId(m -> m.ulong(1L))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
+                              .to("clients"))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithBinaryMessageId() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .messageId("message1".getBytes())
+            .userId("user1")
+            .to("clients")
+            .subject("subject1")
+            .replyTo("localhost")
+            .correlationId("correlationId1")
+            .contentType("content_type")
+            .contentEncoding("content_encoding")
+            .absoluteExpiryTime(12345L)
+            .creationTime(12345L)
+            .groupId("group_id1")
+            .groupSequence(1)
+            .replyToGroupId("reply_group_id")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(p -> p.messageId(m -> m.binary(b1 -> b1.bytes(b2 -> b2.set("message1".getBytes()))))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes(UTF_8))))
+                              .to("clients")
+                              .subject("subject1")
+                              .replyTo("localhost")
+                              .correlationId(c -> c.stringtype("correlationId1"))
+                              .contentType("content_type")
+                              .contentEncoding("content_encoding")
+                              .absoluteExpiryTime(12345L)
+                              .creationTime(12345L)
+                              .groupId("group_id1")
+                              .groupSequence(1)
+                              .replyToGroupId("reply_group_id"))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithLongCorrelationId() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .messageId("message1".getBytes())
+            .userId("user1")
+            .to("clients")
+            .subject("subject1")
+            .replyTo("localhost")
+            .correlationId(12345L)
+            .contentType("content_type")
+            .contentEncoding("content_encoding")
+            .absoluteExpiryTime(12345L)
+            .creationTime(12345L)
+            .groupId("group_id1")
+            .groupSequence(1)
+            .replyToGroupId("reply_group_id")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(p -> p.messageId(m -> m.binary(b1 -> b1.bytes(b2 -> b2.set("message1".getBytes()))))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes(UTF_8))))
+                              .to("clients")
+                              .subject("subject1")
+                              .replyTo("localhost")
+                              .correlationId(c -> c.ulong(12345L))
+                              .contentType("content_type")
+                              .contentEncoding("content_encoding")
+                              .absoluteExpiryTime(12345L)
+                              .creationTime(12345L)
+                              .groupId("group_id1")
+                              .groupSequence(1)
+                              .replyToGroupId("reply_group_id"))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithBinaryCorrelationId() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .messageId("message1".getBytes())
+            .userId("user1")
+            .to("clients")
+            .subject("subject1")
+            .replyTo("localhost")
+            .correlationId("correlationId1".getBytes())
+            .contentType("content_type")
+            .contentEncoding("content_encoding")
+            .absoluteExpiryTime(12345L)
+            .creationTime(12345L)
+            .groupId("group_id1")
+            .groupSequence(1)
+            .replyToGroupId("reply_group_id")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(p -> p.messageId(m -> m.binary(b1 -> b1.bytes(b2 -> b2.set("message1".getBytes()))))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes(UTF_8))))
+                              .to("clients")
+                              .subject("subject1")
+                              .replyTo("localhost")
+                              .correlationId(c -> c.binary(b3 -> b3.bytes(b4 -> b4.set("correlationId1".getBytes()))))
+                              .contentType("content_type")
+                              .contentEncoding("content_encoding")
+                              .absoluteExpiryTime(12345L)
+                              .creationTime(12345L)
+                              .groupId("group_id1")
+                              .groupSequence(1)
+                              .replyToGroupId("reply_group_id"))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchAmqpDataExtensionWithOnlyApplicationProperties() throws Exception
+    {
+        BytesMatcher matcher = matchDataEx()
+            .typeId(0)
+            .property("property1", "1".getBytes(UTF_8))
+            .property("property2", "2".getBytes(UTF_8))
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
+            .messageFormat(0)
+            .flags(1)
+            .properties(p -> p.messageId(m -> m.stringtype("message1"))
+                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
+                              .to("clients"))
+            .applicationProperties(b -> b.item(i -> i.key("property1").value(v -> v.bytes(o -> o.set("1".getBytes(UTF_8)))))
+                                         .item(i -> i.key("property2").value(v -> v.bytes(o -> o.set("2".getBytes(UTF_8))))))
+            .bodyKind(b -> b.set(VALUE))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldEncodeAmqpAbortExtension()
+    {
+        final byte[] array = abortEx()
+            .typeId(0)
+            .condition("amqp:link:transfer-limit-exceeded")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpAbortExFW amqpAbortEx = new AmqpAbortExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(amqpAbortEx.condition().asString(), "amqp:link:transfer-limit-exceeded");
+    }
+
+    @Test
+    public void shouldMatchAmqpAbortExtension() throws Exception
+    {
+        BytesMatcher matcher = matchAbortEx()
+            .typeId(0)
+            .condition("amqp:link:message-size-exceeded")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpAbortExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .condition("amqp:link:message-size-exceeded")
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpAbortExtensionCondition() throws Exception
+    {
+        BytesMatcher matcher = matchAbortEx()
+            .typeId(0)
+            .condition("amqp:link:message-size-exceeded")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpAbortExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .condition("amqp:link:transfer-limit-exceeded")
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test
+    public void shouldEncodeAmqpFlushExtensionWithDispositions()
+    {
+        final byte[] array = flushEx()
+            .typeId(0)
+            .capabilities("SEND_ONLY")
+            .disposition("ACCEPTED", 0, 9)
+            .disposition("ACCEPTED", 10, 19, "SETTLED", "BATCHABLE")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        AmqpFlushExFW amqpFlushEx = new AmqpFlushExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals("SEND_ONLY", amqpFlushEx.capabilities().toString());
+        amqpFlushEx.dispositions().forEach(d ->
+        {
+            assertEquals(ACCEPTED, d.state().get());
+            assertEquals(9, d.last() - d.first());
+            assertEquals(d.first() == 0 ? 0x00 : 0x03, d.flags());
+        });
+    }
+
+    @Test
+    public void shouldMatchAmqpFlushExtension() throws Exception
+    {
+        BytesMatcher matcher = matchFlushEx()
+            .typeId(0)
+            .capabilities("SEND_ONLY")
+            .disposition("ACCEPTED", 0, 9)
+            .disposition("ACCEPTED", 10, 19, "SETTLED")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .capabilities(c -> c.set(AmqpCapabilities.SEND_ONLY))
+            .dispositionsItem(d -> d.first(0).last(9).flags(0).state(s -> s.set(ACCEPTED)))
+            .dispositionsItem(d -> d.first(10).last(19).flags(1).state(s -> s.set(ACCEPTED)))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchAmqpFlushExtensionWithoutDispositions() throws Exception
+    {
+        BytesMatcher matcher = matchFlushEx()
+            .typeId(0)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .dispositionsItem(d -> d.first(0).last(0).flags(1).state(s -> s.set(ACCEPTED)))
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldFailWhenBuildFlushExWithoutSettingField() throws Exception
+    {
+        BytesMatcher matcher = matchFlushEx().build();
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+        assertNull(matcher.match(byteBuf));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlushExtensionDispositions() throws Exception
+    {
+        BytesMatcher matcher = matchFlushEx()
+            .typeId(0)
+            .disposition("ACCEPTED", 0, 9, "SETTLED")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .dispositionsItem(d -> d.first(0).last(9).flags(0).state(s -> s.set(ACCEPTED)))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlushExtensionCapabilities() throws Exception
+    {
+        BytesMatcher matcher = matchFlushEx()
+            .typeId(0)
+            .capabilities("RECEIVE_ONLY")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new AmqpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0)
+            .capabilities(c -> c.set(AmqpCapabilities.SEND_ONLY))
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = AssertionError.class)
+    public void shouldRejectAmqpFlushExtensionRepeatedCapabilities() throws Exception
+    {
+        matchFlushEx()
+            .capabilities("SEND_ONLY")
+            .capabilities("RECEIVE_ONLY")
+            .build();
+    }
+
+    @Test
+    public void shouldEncodeAmqpOpenFrame() throws Exception
+    {
+        final byte[] frame = open()
+            .containerId("server")
+            .maxFrameSize(1000)
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(28)
+            .putInt(28).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x10, (byte) 0xc0, 0x0f, 0x03})
+            .put(string8("server"))
+            .put((byte) 0x40)
+            .put(new byte[] {0x70, 0x00, 0x00, 0x03, (byte) 0xe8});
+
+        assertArrayEquals(expected.array(), frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpOpenFrameWithAllFields() throws Exception
+    {
+        final byte[] frame = open()
+            .channel(0)
+            .containerId("client")
+            .hostname("localhost")
+            .maxFrameSize(0)
+            .channelMax(1)
+            .idleTimeOut(1000)
+            .outgoingLocales("jp")
+            .incomingLocales("en", "jp")
+            .offeredCapabilities("ANONYMOUS-RELAY")
+            .desiredCapabilities("DELAYED-DELIVERY")
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(frame.length, decoder.sizeof());
+        assertEquals(0x10, decoder.performative());
+        assertEquals(9, decoder.fieldCount());
+        assertEquals("client", decoder.string(0));
+        assertEquals("localhost", decoder.string(1));
+        assertEquals(0L, decoder.uint(2));
+        assertEquals(1L, decoder.uint(3));
+        assertEquals(1000L, decoder.uint(4));
+        assertEquals(-1, decoder.described(5));
+        assertEquals(0, decoder.payloadLength());
+    }
+
+    @Test
+    public void shouldEncodeAmqpBeginFrame() throws Exception
+    {
+        final byte[] frame = begin()
+            .remoteChannel(0)
+            .nextOutgoingId(1)
+            .incomingWindow(65536)
+            .outgoingWindow(2147483647)
+            .handleMax(255)
+            .offeredCapabilities("cap1")
+            .desiredCapabilities("cap2")
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(49)
+            .putInt(49).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x11, (byte) 0xc0, 0x24, 0x07})
+            .put(new byte[] {0x60, 0x00, 0x00})
+            .put(new byte[] {0x52, 0x01})
+            .put(new byte[] {0x70, 0x00, 0x01, 0x00, 0x00})
+            .put(new byte[] {0x70, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff})
+            .put(new byte[] {0x52, (byte) 0xff})
+            .put(new byte[] {(byte) 0xe0, 0x07, 0x01, (byte) 0xa3, 0x04}).put("cap1".getBytes(UTF_8))
+            .put(new byte[] {(byte) 0xe0, 0x07, 0x01, (byte) 0xa3, 0x04}).put("cap2".getBytes(UTF_8));
+
+        assertArrayEquals(expected.array(), frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpAttachFrame() throws Exception
+    {
+        final byte[] frame = attach()
+            .name("link1")
+            .handle(0)
+            .role("SENDER")
+            .sndSettleMode("SETTLED")
+            .rcvSettleMode("FIRST")
+            .source("server")
+            .target("clients")
+            .initialDeliveryCount(0)
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(59)
+            .putInt(59).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x12, (byte) 0xc0, 0x2e, 0x0a})
+            .put(string8("link1"))
+            .put(new byte[] {0x43, 0x42, 0x50, 0x01, 0x50, 0x00})
+            .put(new byte[] {0x00, 0x53, 0x28, (byte) 0xc0, 0x09, 0x01}).put(string8("server"))
+            .put(new byte[] {0x00, 0x53, 0x29, (byte) 0xc0, 0x0a, 0x01}).put(string8("clients"))
+            .put(new byte[] {0x40, 0x40, 0x43});
+
+        assertArrayEquals(expected.array(), frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpAttachFrameWithAllFields() throws Exception
+    {
+        final byte[] frame = attach()
+            .name("link1")
+            .handle(1)
+            .role("RECEIVER")
+            .incompleteUnsettled(false)
+            .initialDeliveryCount(0)
+            .maxMessageSize(0x1_0000_0000L)
+            .offeredCapabilities("cap1")
+            .desiredCapabilities("cap2")
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(0x12, decoder.performative());
+        assertEquals(13, decoder.fieldCount());
+        assertEquals(1L, decoder.uint(1));
+        assertTrue(decoder.bool(2));
+        assertTrue(decoder.isNull(5));
+        assertFalse(decoder.bool(8));
+        assertEquals(0x1_0000_0000L, decoder.uint(10));
+    }
+
+    @Test
+    public void shouldEncodeAmqpAttachFrameWithSmallMaxMessageSize() throws Exception
+    {
+        final byte[] frame = attach()
+            .maxMessageSize(0)
+            .build();
+        final byte[] frame2 = attach()
+            .maxMessageSize(255)
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+        assertEquals(0L, decoder.uint(10));
+        assertEquals(0x44, frame[frame.length - 1]);
+
+        decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame2), 0, frame2.length);
+        assertEquals(255L, decoder.uint(10));
+        assertEquals(0x53, frame2[frame2.length - 2]);
+    }
+
+    @Test
+    public void shouldEncodeAmqpTransferFrameLargerThanInitialBuffer() throws Exception
+    {
+        final byte[] sections = new byte[16384];
+        Arrays.fill(sections, (byte) 0x40);
+
+        final byte[] frame = transfer()
+            .handle(0)
+            .deliveryId(0)
+            .deliveryTag("")
+            .messageFormat(0)
+            .settled(true)
+            .sections(sections)
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(frame.length, decoder.sizeof());
+        assertEquals(0x14, decoder.performative());
+        assertEquals(sections.length, decoder.payloadLength());
+    }
+
+    @Test
+    public void shouldEncodeAmqpOpenFrameWithMultiByteCapability() throws Exception
+    {
+        final byte[] frame = open()
+            .containerId("client")
+            .offeredCapabilities("caf\u00e9")
+            .build();
+
+        final byte[] capabilities = Arrays.copyOfRange(frame, frame.length - 10, frame.length);
+
+        assertArrayEquals(new byte[] {(byte) 0xe0, 0x08, 0x01, (byte) 0xa3, 0x05, 'c', 'a', 'f', (byte) 0xc3, (byte) 0xa9},
+            capabilities);
+    }
+
+    @Test
+    public void shouldEncodeAmqpOpenFrameWithLongCapability() throws Exception
+    {
+        final char[] capability = new char[300];
+        Arrays.fill(capability, 'x');
+
+        final byte[] frame = open()
+            .containerId("client")
+            .offeredCapabilities(new String(capability))
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(8, decoder.fieldCount());
+        assertEquals(0, decoder.payloadLength());
+        assertEquals((byte) 0xf0, frame[frame.length - 314]);
+        assertEquals((byte) 0xb3, frame[frame.length - 305]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectFrameWithTooManyFields() throws Exception
+    {
+        final ByteBuffer frame = ByteBuffer.allocate(31)
+            .putInt(31).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x10, (byte) 0xc0, 0x12, 0x11});
+        while (frame.hasRemaining())
+        {
+            frame.put((byte) 0x40);
+        }
+
+        new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame.array()), 0, frame.capacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectFrameWithUnexpectedDescriptorConstructor() throws Exception
+    {
+        final ByteBuffer frame = ByteBuffer.allocate(13)
+            .putInt(13).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, (byte) 0xa3, 0x01, 'x', 0x45});
+
+        new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame.array()), 0, frame.capacity());
+    }
+
+    @Test
+    public void shouldEncodeAmqpFlowFrame() throws Exception
+    {
+        final byte[] frame = flow()
+            .nextIncomingId(1)
+            .incomingWindow(8)
+            .nextOutgoingId(1)
+            .outgoingWindow(2147483647)
+            .handle(0)
+            .deliveryCount(0)
+            .linkCredit(8)
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(29)
+            .putInt(29).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x13, (byte) 0xc0, 0x10, 0x07})
+            .put(new byte[] {0x52, 0x01, 0x52, 0x08, 0x52, 0x01})
+            .put(new byte[] {0x70, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff})
+            .put(new byte[] {0x43, 0x43, 0x52, 0x08});
+
+        assertArrayEquals(expected.array(), frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpFlowFrameWithEcho() throws Exception
+    {
+        final byte[] frame = flow()
+            .nextIncomingId(1)
+            .incomingWindow(8)
+            .nextOutgoingId(1)
+            .outgoingWindow(2147483647)
+            .available(0)
+            .drain(false)
+            .echo(true)
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(0x13, decoder.performative());
+        assertEquals(10, decoder.fieldCount());
+        assertTrue(decoder.isNull(4));
+        assertEquals(0L, decoder.uint(7));
+        assertFalse(decoder.bool(8));
+        assertTrue(decoder.bool(9));
+    }
+
+    @Test
+    public void shouldEncodeAmqpTransferFrame() throws Exception
+    {
+        final byte[] sections = new byte[] {0x00, 0x53, 0x77, (byte) 0xa1, 0x05, 0x54, 0x65, 0x78, 0x74, 0x21};
+        final byte[] frame = transfer()
+            .channel(1)
+            .handle(0)
+            .deliveryId(0)
+            .deliveryTag("")
+            .messageFormat(0)
+            .settled(true)
+            .sections(sections)
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(30)
+            .putInt(30).put((byte) 0x02).put((byte) 0x00).putShort((short) 1)
+            .put(new byte[] {0x00, 0x53, 0x14, (byte) 0xc0, 0x07, 0x05})
+            .put(new byte[] {0x43, 0x43, (byte) 0xa0, 0x00, 0x43, 0x41})
+            .put(sections);
+
+        assertArrayEquals(expected.array(), frame);
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+        assertEquals(1, decoder.channel());
+        assertEquals(20, decoder.payloadOffset());
+        assertEquals(sections.length, decoder.payloadLength());
+    }
+
+    @Test
+    public void shouldEncodeAmqpTransferFrameWithAllFields() throws Exception
+    {
+        final byte[] frame = transfer()
+            .handle(0)
+            .deliveryId(300)
+            .deliveryTag("tag1")
+            .messageFormat(0)
+            .settled(false)
+            .more(true)
+            .rcvSettleMode("SECOND")
+            .state("RECEIVED")
+            .resume(false)
+            .aborted(false)
+            .batchable(true)
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(0x14, decoder.performative());
+        assertEquals(11, decoder.fieldCount());
+        assertEquals(300L, decoder.uint(1));
+        assertEquals("tag1", decoder.string(2));
+        assertFalse(decoder.bool(4));
+        assertTrue(decoder.bool(5));
+        assertEquals(1L, decoder.uint(6));
+        assertEquals(0x23, decoder.described(7));
+        assertEquals(-1, decoder.described(6));
+        assertTrue(decoder.bool(10));
+    }
+
+    @Test
+    public void shouldEncodeAmqpDispositionFrame() throws Exception
+    {
+        final byte[] frame = disposition()
+            .role("RECEIVER")
+            .first(0)
+            .last(2)
+            .settled(false)
+            .state("ACCEPTED")
+            .batchable(false)
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(24)
+            .putInt(24).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x15, (byte) 0xc0, 0x0b, 0x06})
+            .put(new byte[] {0x41, 0x43, 0x52, 0x02, 0x42})
+            .put(new byte[] {0x00, 0x53, 0x24, 0x45})
+            .put((byte) 0x42);
+
+        assertArrayEquals(expected.array(), frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpDetachFrame() throws Exception
+    {
+        final byte[] frame = detach()
+            .handle(0)
+            .closed(true)
+            .error("amqp:link:detach-forced")
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(47)
+            .putInt(47).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x16, (byte) 0xc0, 0x22, 0x03})
+            .put(new byte[] {0x43, 0x41})
+            .put(new byte[] {0x00, 0x53, 0x1d, (byte) 0xc0, 0x1a, 0x01})
+            .put(symbol8("amqp:link:detach-forced"));
+
+        assertArrayEquals(expected.array(), frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpEndFrame() throws Exception
+    {
+        final byte[] frame = end().build();
+
+        assertArrayEquals(new byte[] {0x00, 0x00, 0x00, 0x0c, 0x02, 0x00, 0x00, 0x00, 0x00, 0x53, 0x17, 0x45}, frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpEndFrameWithError() throws Exception
+    {
+        final byte[] frame = end()
+            .error("amqp:session:errant-link")
+            .build();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(0x17, decoder.performative());
+        assertEquals(1, decoder.fieldCount());
+        assertEquals(0x1d, decoder.described(0));
+    }
+
+    @Test
+    public void shouldEncodeAmqpCloseFrame() throws Exception
+    {
+        final byte[] frame = close()
+            .error("amqp:connection:forced")
+            .build();
+
+        ByteBuffer expected = ByteBuffer.allocate(44)
+            .putInt(44).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x18, (byte) 0xc0, 0x1f, 0x01})
+            .put(new byte[] {0x00, 0x53, 0x1d, (byte) 0xc0, 0x19, 0x01})
+            .put(symbol8("amqp:connection:forced"));
+
+        assertArrayEquals(expected.array(), frame);
+    }
+
+    @Test
+    public void shouldEncodeAmqpFrameWithLargeFields() throws Exception
+    {
+        final String hostname = randomString(300);
+        final byte[] frame = open()
+            .containerId("client")
+            .hostname(hostname)
+            .build();
+
+        assertEquals((byte) 0xd0, frame[11]);
+        assertEquals((byte) 0xb1, frame[28]);
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(2, decoder.fieldCount());
+        assertEquals(hostname, decoder.string(1));
+        assertEquals(0, decoder.payloadLength());
+    }
+
+    @Test
+    public void shouldDecodeAmqpFrameFields() throws Exception
+    {
+        ByteBuffer fields = ByteBuffer.allocate(256)
+            .put((byte) 0x40)
+            .put(booleanValue(true))
+            .put(ubyte(1))
+            .put(ushort(2))
+            .put(ulong(3))
+            .put(smallulong(4))
+            .put(timestamp(5))
+            .put(charValue("6"))
+            .put((byte) 0x98).put(new byte[16])
+            .put(binary32("vbin32"))
+            .put(symbol32("sym32"))
+            .put(new byte[] {(byte) 0xc1, 0x01, 0x00})
+            .put(new byte[] {(byte) 0xd1, 0x00, 0x00, 0x00, 0x04, 0x00, 0x00, 0x00, 0x00})
+            .put(new byte[] {0x00, (byte) 0x80, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x24, 0x45})
+            .put(booleanValue(false));
+        final int fieldsLength = fields.position();
+
+        ByteBuffer frame = ByteBuffer.allocate(8 + 10 + 9 + fieldsLength)
+            .putInt(8 + 10 + 9 + fieldsLength).put((byte) 0x02).put((byte) 0x00).putShort((short) 2)
+            .put(new byte[] {0x00, (byte) 0x80, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x15})
+            .put((byte) 0xd0).putInt(fieldsLength + 4).putInt(15)
+            .put(fields.array(), 0, fieldsLength);
+        final byte[] bytes = frame.array();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(bytes), 0, bytes.length);
+
+        assertEquals(2, decoder.channel());
+        assertEquals(0x15, decoder.performative());
+        assertEquals(15, decoder.fieldCount());
+        assertTrue(decoder.isNull(0));
+        assertFalse(decoder.isNull(1));
+        assertTrue(decoder.isNull(15));
+        assertTrue(decoder.bool(1));
+        assertEquals(1L, decoder.uint(2));
+        assertEquals(2L, decoder.uint(3));
+        assertEquals(3L, decoder.uint(4));
+        assertEquals(4L, decoder.uint(5));
+        assertEquals("vbin32", decoder.string(9));
+        assertEquals("sym32", decoder.string(10));
+        assertEquals(0x24, decoder.described(13));
+        assertFalse(decoder.bool(14));
+        assertEquals(0, decoder.payloadLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotDecodeUintFromTimestampField() throws Exception
+    {
+        ByteBuffer frame = ByteBuffer.allocate(23)
+            .putInt(23).put((byte) 0x02).put((byte) 0x00).putShort((short) 0)
+            .put(new byte[] {0x00, 0x53, 0x15, (byte) 0xc0, 0x0a, 0x01})
+            .put(timestamp(5));
+        final byte[] bytes = frame.array();
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(bytes), 0, bytes.length);
+
+        decoder.uint(0);
+    }
+
+    @Test
+    public void shouldNotDecodeIncompleteAmqpFrame() throws Exception
+    {
+        final byte[] frame = end().build();
+
+        assertNull(new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, 4));
+        assertNull(new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length - 1));
+    }
+
+    @Test
+    public void shouldDecodeEmptyAmqpFrame() throws Exception
+    {
+        final byte[] frame = new byte[] {0x00, 0x00, 0x00, 0x08, 0x02, 0x00, 0x00, 0x00};
+
+        AmqpFrameDecoder decoder = new AmqpFrameDecoder().tryWrap(new UnsafeBuffer(frame), 0, frame.length);
+
+        assertEquals(8, decoder.sizeof());
+        assertEquals(-1, decoder.performative());
+        assertEquals(0, decoder.fieldCount());
+        assertEquals(0, decoder.payloadLength());
+    }
+
+    @Test
+    public void shouldMatchAmqpTransferFrame() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .channel(0)
+            .handle(0)
+            .deliveryTag("tag")
+            .settled(true)
+            .more(false)
+            .build();
+
+        final byte[] sections = new byte[] {0x00, 0x53, 0x77, (byte) 0xa1, 0x01, 0x61};
+        final byte[] frame = transfer()
+            .handle(0)
+            .deliveryId(7)
+            .deliveryTag("tag")
+            .messageFormat(0)
+            .settled(true)
+            .sections(sections)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(frame);
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(frame.length - sections.length, byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchAmqpTransferFrameWithAllFields() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .handle(1)
+            .deliveryId(256)
+            .deliveryTag("")
+            .messageFormat(0)
+            .settled(false)
+            .more(true)
+            .state("ACCEPTED")
+            .aborted(false)
+            .batchable(true)
+            .build();
+
+        final byte[] frame = transfer()
+            .channel(1)
+            .handle(1)
+            .deliveryId(256)
+            .deliveryTag("")
+            .messageFormat(0)
+            .more(true)
+            .state("ACCEPTED")
+            .batchable(true)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(frame);
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(frame.length, byteBuf.position());
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpTransferFrameWithDifferentHandle() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .handle(1)
+            .build();
+
+        final byte[] frame = transfer()
+            .handle(0)
+            .deliveryId(0)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpTransferFrameWithDifferentChannel() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .channel(1)
+            .build();
+
+        final byte[] frame = transfer()
+            .handle(0)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpTransferFrameWithDifferentDeliveryTag() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .deliveryTag("tag")
+            .build();
+
+        final byte[] frame = transfer()
+            .handle(0)
+            .deliveryId(0)
+            .deliveryTag("other")
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpTransferFrameWithMissingState() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .state("ACCEPTED")
+            .build();
+
+        final byte[] frame = transfer()
+            .handle(0)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlowFrameAsTransferFrame() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .build();
+
+        final byte[] frame = flow()
+            .nextIncomingId(0)
+            .incomingWindow(8192)
+            .nextOutgoingId(0)
+            .outgoingWindow(8192)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test
+    public void shouldNotMatchIncompleteAmqpTransferFrame() throws Exception
+    {
+        BytesMatcher matcher = matchTransfer()
+            .handle(0)
+            .build();
+
+        final byte[] frame = transfer()
+            .handle(0)
+            .deliveryId(0)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(frame, 0, frame.length - 1);
+
+        assertNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchAmqpFlowFrame() throws Exception
+    {
+        BytesMatcher matcher = matchFlow()
+            .handle(0)
+            .linkCredit(100)
+            .drain(false)
+            .build();
+
+        final byte[] frame = flow()
+            .nextIncomingId(3)
+            .incomingWindow(2048)
+            .nextOutgoingId(1)
+            .outgoingWindow(2048)
+            .handle(0)
+            .deliveryCount(3)
+            .linkCredit(100)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(frame);
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(frame.length, byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchAmqpFlowFrameWithAllFields() throws Exception
+    {
+        BytesMatcher matcher = matchFlow()
+            .channel(0)
+            .nextIncomingId(3)
+            .incomingWindow(2048)
+            .nextOutgoingId(1)
+            .outgoingWindow(2048)
+            .handle(0)
+            .deliveryCount(3)
+            .linkCredit(100)
+            .available(0)
+            .drain(true)
+            .echo(true)
+            .build();
+
+        final byte[] frame = flow()
+            .nextIncomingId(3)
+            .incomingWindow(2048)
+            .nextOutgoingId(1)
+            .outgoingWindow(2048)
+            .handle(0)
+            .deliveryCount(3)
+            .linkCredit(100)
+            .available(0)
+            .drain(true)
+            .echo(true)
+            .build();
+
+        assertNotNull(matcher.match(ByteBuffer.wrap(frame)));
+    }
+
+    @Test
+    public void shouldMatchAmqpSessionFlowFrame() throws Exception
+    {
+        BytesMatcher matcher = matchFlow()
+            .incomingWindow(8192)
+            .build();
+
+        final byte[] frame = flow()
+            .nextIncomingId(0)
+            .incomingWindow(8192)
+            .nextOutgoingId(0)
+            .outgoingWindow(8192)
+            .build();
+
+        assertNotNull(matcher.match(ByteBuffer.wrap(frame)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpSessionFlowFrameWithLinkCredit() throws Exception
+    {
+        BytesMatcher matcher = matchFlow()
+            .linkCredit(100)
+            .build();
+
+        final byte[] frame = flow()
+            .nextIncomingId(0)
+            .incomingWindow(8192)
+            .nextOutgoingId(0)
+            .outgoingWindow(8192)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlowFrameWithDifferentLinkCredit() throws Exception
+    {
+        BytesMatcher matcher = matchFlow()
+            .linkCredit(100)
+            .build();
+
+        final byte[] frame = flow()
+            .nextIncomingId(0)
+            .incomingWindow(8192)
+            .nextOutgoingId(0)
+            .outgoingWindow(8192)
+            .handle(0)
+            .deliveryCount(0)
+            .linkCredit(10)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test
+    public void shouldMatchAmqpDispositionFrame() throws Exception
+    {
+        BytesMatcher matcher = matchDisposition()
+            .channel(0)
+            .role("RECEIVER")
+            .first(0)
+            .last(2)
+            .settled(true)
+            .state("ACCEPTED")
+            .batchable(false)
+            .build();
+
+        final byte[] frame = disposition()
+            .role("RECEIVER")
+            .first(0)
+            .last(2)
+            .settled(true)
+            .state("ACCEPTED")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(frame);
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(frame.length, byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchAmqpDispositionFrameWithRange() throws Exception
+    {
+        BytesMatcher matcher = matchDisposition()
+            .role("SENDER")
+            .settled(true)
+            .build();
+
+        final byte[] frame = disposition()
+            .role("SENDER")
+            .first(0)
+            .last(99)
+            .settled(true)
+            .state("ACCEPTED")
+            .build();
+
+        assertNotNull(matcher.match(ByteBuffer.wrap(frame)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDispositionFrameWithDifferentRole() throws Exception
+    {
+        BytesMatcher matcher = matchDisposition()
+            .role("SENDER")
+            .build();
+
+        final byte[] frame = disposition()
+            .role("RECEIVER")
+            .first(0)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpDispositionFrameWithDifferentState() throws Exception
+    {
+        BytesMatcher matcher = matchDisposition()
+            .state("ACCEPTED")
+            .build();
+
+        final byte[] frame = disposition()
+            .role("RECEIVER")
+            .first(0)
+            .settled(true)
+            .state("REJECTED")
             .build();
 
+        matcher.match(ByteBuffer.wrap(frame));
+    }
+
+    @Test
+    public void shouldMatchCoalescedAmqpFlowFrames() throws Exception
+    {
+        BytesMatcher matcher = matchFlows()
+            .channel(0)
+            .nextIncomingId(5)
+            .incomingWindow(8192)
+            .link(0, 1)
+            .link(1, 1)
+            .link(2, 1)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(256)
+            .put(linkFlow(5, 8192, 0, 1))
+            .put(linkFlow(5, 8192, 1, 1))
+            .put(linkFlow(5, 8192, 2, 1))
+            .put(sessionFlow(5, 8192));
+        byteBuf.flip();
+
         assertNotNull(matcher.match(byteBuf));
+        assertEquals(sessionFlow(5, 8192).length, byteBuf.remaining());
     }
 
     @Test
-    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithLongCorrelationId() throws Exception
+    public void shouldLeaveTrailingSessionAmqpFlowFrameForNextMatcher() throws Exception
     {
-        BytesMatcher matcher = matchDataEx()
-            .typeId(0)
-            .messageId("message1".getBytes())
-            .userId("user1")
-            .to("clients")
-            .subject("subject1")
-            .replyTo("localhost")
-            .correlationId(12345L)
-            .contentType("content_type")
-            .contentEncoding("content_encoding")
-            .absoluteExpiryTime(12345L)
-            .creationTime(12345L)
-            .groupId("group_id1")
-            .groupSequence(1)
-            .replyToGroupId("reply_group_id")
-            .build();
+        final byte[] transfer = transfer().handle(0).build();
 
-        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+        BytesMatcher linksMatcher = matchFlows()
+            .nextIncomingId(5)
+            .incomingWindow(8192)
+            .link(0, 1)
+            .build();
 
-        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
-            .typeId(0)
-            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
-            .messageFormat(0)
-            .flags(1)
-            .properties(p -> p.messageId(m -> m.binary(b1 -> b1.bytes(b2 -> b2.set("message1".getBytes()))))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes(UTF_8))))
-                              .to("clients")
-                              .subject("subject1")
-                              .replyTo("localhost")
-                              .correlationId(c -> c.ulong(12345L))
-                              .contentType("content_type")
-                              .contentEncoding("content_encoding")
-                              .absoluteExpiryTime(12345L)
-                              .creationTime(12345L)
-                              .groupId("group_id1")
-                              .groupSequence(1)
-                              .replyToGroupId("reply_group_id"))
-            .bodyKind(b -> b.set(VALUE))
+        BytesMatcher sessionMatcher = matchFlow()
+            .nextIncomingId(6)
+            .incomingWindow(8192)
             .build();
 
-        assertNotNull(matcher.match(byteBuf));
+        ByteBuffer byteBuf = ByteBuffer.allocate(256)
+            .put(linkFlow(5, 8192, 0, 1))
+            .put(sessionFlow(6, 8192))
+            .put(transfer);
+        byteBuf.flip();
+
+        assertNotNull(linksMatcher.match(byteBuf));
+        assertEquals(sessionFlow(6, 8192).length + transfer.length, byteBuf.remaining());
+
+        assertNotNull(sessionMatcher.match(byteBuf));
+        assertEquals(transfer.length, byteBuf.remaining());
     }
 
     @Test
-    public void shouldMatchAmqpDataExtensionWithOnlyPropertiesWithBinaryCorrelationId() throws Exception
+    public void shouldMatchSessionThenLinkAmqpFlowFrames() throws Exception
     {
-        BytesMatcher matcher = matchDataEx()
-            .typeId(0)
-            .messageId("message1".getBytes())
-            .userId("user1")
-            .to("clients")
-            .subject("subject1")
-            .replyTo("localhost")
-            .correlationId("correlationId1".getBytes())
-            .contentType("content_type")
-            .contentEncoding("content_encoding")
-            .absoluteExpiryTime(12345L)
-            .creationTime(12345L)
-            .groupId("group_id1")
-            .groupSequence(1)
-            .replyToGroupId("reply_group_id")
+        BytesMatcher matcher = matchFlows()
+            .nextIncomingId(5)
+            .incomingWindow(8192)
+            .link(0, 1)
+            .link(1, 1)
             .build();
 
-        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+        ByteBuffer byteBuf = ByteBuffer.allocate(256)
+            .put(sessionFlow(5, 8192))
+            .put(linkFlow(5, 8192, 1, 1))
+            .put(linkFlow(5, 8192, 0, 1));
+        byteBuf.flip();
 
-        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
-            .typeId(0)
-            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
-            .messageFormat(0)
-            .flags(1)
-            .properties(p -> p.messageId(m -> m.binary(b1 -> b1.bytes(b2 -> b2.set("message1".getBytes()))))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes(UTF_8))))
-                              .to("clients")
-                              .subject("subject1")
-                              .replyTo("localhost")
-                              .correlationId(c -> c.binary(b3 -> b3.bytes(b4 -> b4.set("correlationId1".getBytes()))))
-                              .contentType("content_type")
-                              .contentEncoding("content_encoding")
-                              .absoluteExpiryTime(12345L)
-                              .creationTime(12345L)
-                              .groupId("group_id1")
-                              .groupSequence(1)
-                              .replyToGroupId("reply_group_id"))
-            .bodyKind(b -> b.set(VALUE))
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.remaining());
+    }
+
+    @Test
+    public void shouldMatchSessionAmqpFlowFrame() throws Exception
+    {
+        BytesMatcher matcher = matchFlows()
+            .incomingWindow(8192)
             .build();
 
+        ByteBuffer byteBuf = ByteBuffer.wrap(sessionFlow(1, 8192));
+
         assertNotNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.remaining());
     }
 
     @Test
-    public void shouldMatchAmqpDataExtensionWithOnlyApplicationProperties() throws Exception
+    public void shouldNotMatchIncompleteAmqpFlowFrames() throws Exception
     {
-        BytesMatcher matcher = matchDataEx()
-            .typeId(0)
-            .property("property1", "1".getBytes(UTF_8))
-            .property("property2", "2".getBytes(UTF_8))
+        BytesMatcher matcher = matchFlows()
+            .link(0, 1)
+            .link(1, 1)
             .build();
 
-        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+        ByteBuffer byteBuf = ByteBuffer.allocate(256)
+            .put(linkFlow(5, 8192, 0, 1));
+        byteBuf.flip();
 
-        new AmqpDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
-            .typeId(0)
-            .deliveryTag(b -> b.bytes(b2 -> b2.set("00".getBytes())))
-            .messageFormat(0)
-            .flags(1)
-            .properties(p -> p.messageId(m -> m.stringtype("message1"))
-                              .userId(u -> u.bytes(b2 -> b2.set("user1".getBytes())))
-                              .to("clients"))
-            .applicationProperties(b -> b.item(i -> i.key("property1").value(v -> v.bytes(o -> o.set("1".getBytes(UTF_8)))))
-                                         .item(i -> i.key("property2").value(v -> v.bytes(o -> o.set("2".getBytes(UTF_8))))))
-            .bodyKind(b -> b.set(VALUE))
+        assertNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.position());
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlowFramesWithUnexpectedHandle() throws Exception
+    {
+        BytesMatcher matcher = matchFlows()
+            .link(0, 1)
             .build();
 
-        assertNotNull(matcher.match(byteBuf));
+        matcher.match(ByteBuffer.wrap(linkFlow(5, 8192, 1, 1)));
     }
 
-    @Test
-    public void shouldEncodeAmqpAbortExtension()
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlowFramesWithRepeatedHandle() throws Exception
     {
-        final byte[] array = abortEx()
-            .typeId(0)
-            .condition("amqp:link:transfer-limit-exceeded")
+        BytesMatcher matcher = matchFlows()
+            .link(0, 1)
+            .link(1, 1)
             .build();
 
-        DirectBuffer buffer = new UnsafeBuffer(array);
-        AmqpAbortExFW amqpAbortEx = new AmqpAbortExFW().wrap(buffer, 0, buffer.capacity());
+        ByteBuffer byteBuf = ByteBuffer.allocate(256)
+            .put(linkFlow(5, 8192, 0, 1))
+            .put(linkFlow(5, 8192, 0, 1));
+        byteBuf.flip();
 
-        assertEquals(amqpAbortEx.condition().asString(), "amqp:link:transfer-limit-exceeded");
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlowFramesWithDifferentLinkCredit() throws Exception
+    {
+        BytesMatcher matcher = matchFlows()
+            .link(0, 1)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(linkFlow(5, 8192, 0, 2)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpFlowFramesWithDifferentIncomingWindow() throws Exception
+    {
+        BytesMatcher matcher = matchFlows()
+            .incomingWindow(8192)
+            .link(0, 1)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(linkFlow(5, 4096, 0, 1)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchAmqpTransferFrameAsFlowFrames() throws Exception
+    {
+        BytesMatcher matcher = matchFlows()
+            .channel(0)
+            .link(0, 1)
+            .build();
+
+        matcher.match(ByteBuffer.wrap(transfer().handle(0).build()));
     }
 
     @Test
@@ -926,6 +2638,210 @@ public class AmqpFunctionsTest
         assertEquals(600, string.length());
     }
 
+    @Test
+    public void shouldGenerateSameSeededBytesForSameSeed() throws Exception
+    {
+        final byte[] bytes = seededBytes(42L, 0L, 600);
+
+        assertEquals(600, bytes.length);
+        assertArrayEquals(bytes, seededBytes(42L, 0L, 600));
+        assertFalse(Arrays.equals(bytes, seededBytes(43L, 0L, 600)));
+    }
+
+    @Test
+    public void shouldGenerateSeededBytesFromOffset() throws Exception
+    {
+        final byte[] bytes = seededBytes(42L, 0L, 600);
+
+        assertArrayEquals(Arrays.copyOfRange(bytes, 155, 600), seededBytes(42L, 155L, 445));
+        assertArrayEquals(Arrays.copyOfRange(bytes, 7, 9), seededBytes(42L, 7L, 2));
+    }
+
+    @Test
+    public void shouldMatchSeededBytes() throws Exception
+    {
+        BytesMatcher matcher = matchSeededBytes(42L, 155L, 155);
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(310);
+        byteBuf.put(seededBytes(42L, 155L, 155));
+        byteBuf.put(seededBytes(42L, 310L, 155));
+        byteBuf.flip();
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(155, byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchSeededBytesWhenIncomplete() throws Exception
+    {
+        BytesMatcher matcher = matchSeededBytes(42L, 0L, 600);
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(seededBytes(42L, 0L, 155));
+
+        assertNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.position());
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchSeededBytesWithDifferentOffset() throws Exception
+    {
+        BytesMatcher matcher = matchSeededBytes(42L, 0L, 155);
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(seededBytes(42L, 1L, 155));
+
+        matcher.match(byteBuf);
+    }
+
+    @Test
+    public void shouldGenerateSameRandomMessageForSameSeed() throws Exception
+    {
+        final AmqpRandomMessage message1 = randomMessage(42L);
+        final AmqpRandomMessage message2 = randomMessage(42L);
+
+        assertEquals(message1.bodyKind(), message2.bodyKind());
+        assertArrayEquals(message1.payload(), message2.payload());
+        assertArrayEquals(message1.sections(), message2.sections());
+        assertArrayEquals(message1.dataEx(0x01), message2.dataEx(0x01));
+        assertArrayEquals(message1.transfer(0, 0L, 0L), message2.transfer(0, 0L, 0L));
+    }
+
+    @Test
+    public void shouldGenerateDifferentRandomMessagesForDifferentSeeds() throws Exception
+    {
+        final AmqpRandomMessage message1 = randomMessage(1L);
+        final AmqpRandomMessage message2 = randomMessage(2L);
+
+        assertFalse(Arrays.equals(message1.sections(), message2.sections()));
+    }
+
+    @Test
+    public void shouldGenerateRandomMessageDataExtension() throws Exception
+    {
+        for (long seed = 0L; seed < 256L; seed++)
+        {
+            final AmqpRandomMessage message = randomMessage(seed);
+            final byte[] bytes = message.dataEx(0x01);
+
+            DirectBuffer buffer = new UnsafeBuffer(bytes);
+            AmqpDataExFW amqpDataEx = new AmqpDataExFW().wrap(buffer, 0, buffer.capacity());
+
+            assertEquals(0x01, amqpDataEx.typeId());
+            assertEquals(0, amqpDataEx.deliveryTag().length());
+            assertEquals(0L, amqpDataEx.messageFormat());
+            assertEquals(1, amqpDataEx.flags());
+            assertEquals(message.bodyKind(), amqpDataEx.bodyKind().get().name());
+            assertTrue(message.payload().length > 0);
+        }
+    }
+
+    @Test
+    public void shouldGenerateRandomMessageSections() throws Exception
+    {
+        for (long seed = 0L; seed < 256L; seed++)
+        {
+            final AmqpRandomMessage message = randomMessage(seed);
+            final byte[] sections = message.sections();
+            final byte[] payload = message.payload();
+
+            assertEquals(0x00, sections[0]);
+            assertEquals(0x53, sections[1]);
+            assertArrayEquals(payload, Arrays.copyOfRange(sections, sections.length - payload.length, sections.length));
+        }
+    }
+
+    @Test
+    public void shouldEncodeRandomMessageTransfer() throws Exception
+    {
+        final AmqpRandomMessage message = randomMessage(7L);
+        final byte[] sections = message.sections();
+        final byte[] transfer = message.transfer(1, 0L, 1L);
+
+        ByteBuffer frame = ByteBuffer.wrap(transfer);
+        assertEquals(transfer.length, frame.getInt());
+        assertEquals(0x02, frame.get());
+        assertEquals(0x00, frame.get());
+        assertEquals(1, frame.getShort());
+        assertArrayEquals(new byte[] {0x00, 0x53, 0x14, (byte) 0xc0, 0x08, 0x05, 0x43, 0x52, 0x01,
+            (byte) 0xa0, 0x00, 0x43, 0x41}, Arrays.copyOfRange(transfer, 8, 21));
+        assertArrayEquals(sections, Arrays.copyOfRange(transfer, 21, transfer.length));
+    }
+
+    @Test
+    public void shouldEncodeRandomMessageTransferWithLargeDeliveryId() throws Exception
+    {
+        final AmqpRandomMessage message = randomMessage(7L);
+        final byte[] transfer = message.transfer(0, 0L, 256L);
+
+        assertArrayEquals(new byte[] {0x00, 0x53, 0x14, (byte) 0xc0, 0x0b, 0x05, 0x43, 0x70, 0x00, 0x00, 0x01, 0x00,
+            (byte) 0xa0, 0x00, 0x43, 0x41}, Arrays.copyOfRange(transfer, 8, 24));
+        assertArrayEquals(message.sections(), Arrays.copyOfRange(transfer, 24, transfer.length));
+    }
+
+    @Test
+    public void shouldEncodeEmptyDeliveryAnnotationsSection() throws Exception
+    {
+        final byte[] section = section("DELIVERY_ANNOTATIONS").build();
+
+        assertArrayEquals(new byte[] {0x00, 0x53, 0x71, (byte) 0xc1, 0x01, 0x00}, section);
+    }
+
+    @Test
+    public void shouldEncodeFooterSectionWithEntry() throws Exception
+    {
+        final byte[] section = section("FOOTER")
+            .entry(symbol8("x"), string8("y"))
+            .build();
+
+        assertArrayEquals(new byte[] {0x00, 0x53, 0x78, (byte) 0xc1, 0x07, 0x02, (byte) 0xa3, 0x01, 0x78,
+            (byte) 0xa1, 0x01, 0x79}, section);
+    }
+
+    @Test
+    public void shouldEncodeHeaderSectionWithFields() throws Exception
+    {
+        final byte[] section = section("HEADER")
+            .field(trueValue())
+            .field(ubyte(4))
+            .build();
+
+        assertArrayEquals(new byte[] {0x00, 0x53, 0x70, (byte) 0xc0, 0x04, 0x02, 0x41, 0x50, 0x04}, section);
+    }
+
+    @Test
+    public void shouldEncodeHeaderThenPropertiesSections() throws Exception
+    {
+        final byte[] sections = section("HEADER")
+            .section("PROPERTIES")
+            .field(string8("m"))
+            .field(nullValue())
+            .build();
+
+        assertArrayEquals(new byte[] {0x00, 0x53, 0x70, 0x45, 0x00, 0x53, 0x73, (byte) 0xc0, 0x05, 0x02,
+            (byte) 0xa1, 0x01, 0x6d, 0x40}, sections);
+    }
+
+    @Test
+    public void shouldEncodeLargeApplicationPropertiesSection() throws Exception
+    {
+        final byte[] section = section("APPLICATION_PROPERTIES")
+            .entry(string8("key"), string8(randomString(300)))
+            .build();
+
+        ByteBuffer buffer = ByteBuffer.wrap(section);
+        assertEquals(0x00, buffer.get());
+        assertEquals(0x53, buffer.get());
+        assertEquals(0x74, buffer.get());
+        assertEquals((byte) 0xd1, buffer.get());
+        assertEquals(section.length - 8, buffer.getInt());
+        assertEquals(2, buffer.getInt());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotEncodeUnknownSection() throws Exception
+    {
+        section("BODY");
+    }
+
     @Test
     public void shouldCreateAmqpStringBytes() throws Exception
     {
@@ -1221,4 +3137,51 @@ public class AmqpFunctionsTest
             .flags("BATCHABLE")
             .build();
     }
+
+    @Test(expected = AssertionError.class)
+    public void shouldRejectAmqpDataExtensionRepeatedHandle() throws Exception
+    {
+        matchDataEx()
+            .handle(0)
+            .handle(1)
+            .build();
+    }
+
+    @Test(expected = AssertionError.class)
+    public void shouldRejectAmqpDataExtensionRepeatedAddressId() throws Exception
+    {
+        matchDataEx()
+            .addressId(0)
+            .addressId(1)
+            .build();
+    }
+
+    private static byte[] sessionFlow(
+        long nextIncomingId,
+        long incomingWindow)
+    {
+        return flow()
+            .nextIncomingId(nextIncomingId)
+            .incomingWindow(incomingWindow)
+            .nextOutgoingId(1)
+            .outgoingWindow(2147483647)
+            .build();
+    }
+
+    private static byte[] linkFlow(
+        long nextIncomingId,
+        long incomingWindow,
+        long handle,
+        long linkCredit)
+    {
+        return flow()
+            .nextIncomingId(nextIncomingId)
+            .incomingWindow(incomingWindow)
+            .nextOutgoingId(1)
+            .outgoingWindow(2147483647)
+            .handle(handle)
+            .deliveryCount(1)
+            .linkCredit(linkCredit)
+            .build();
+    }
 }
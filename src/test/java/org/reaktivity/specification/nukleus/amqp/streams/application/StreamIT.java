@@ -116,6 +116,26 @@ public class StreamIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/send.to.client.exactly.once/client",
+        "${app}/send.to.client.exactly.once/server"
+    })
+    public void shouldSendToClientExactlyOnce() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.exactly.once/client",
+        "${app}/send.to.server.exactly.once/server"
+    })
+    public void shouldSendToServerExactlyOnce() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/incoming.window.exceeded/client",
@@ -217,6 +237,26 @@ public class StreamIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/send.to.client.with.random.messages/client",
+        "${app}/send.to.client.with.random.messages/server"
+    })
+    public void shouldSendToClientWithRandomMessages() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.with.random.messages/client",
+        "${app}/send.to.server.with.random.messages/server"
+    })
+    public void shouldSendToServerWithRandomMessages() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/send.to.client.with.footer/client",
@@ -237,6 +277,176 @@ public class StreamIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/send.to.client.with.raw.sections/client",
+        "${app}/send.to.client.with.raw.sections/server"
+    })
+    public void shouldSendToClientWithRawSections() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.with.raw.sections/client",
+        "${app}/send.to.server.with.raw.sections/server"
+    })
+    public void shouldSendToServerWithRawSections() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.with.header.fields/client",
+        "${app}/send.to.client.with.header.fields/server"
+    })
+    public void shouldSendToClientWithHeaderFields() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.with.header.fields/client",
+        "${app}/send.to.server.with.header.fields/server"
+    })
+    public void shouldSendToServerWithHeaderFields() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.with.priorities/client",
+        "${app}/send.to.client.with.priorities/server"
+    })
+    public void shouldSendToClientWithPriorities() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.when.expired/client",
+        "${app}/send.to.client.when.expired/server"
+    })
+    public void shouldSendToClientWhenExpired() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.when.ttl.expired/client",
+        "${app}/send.to.client.when.ttl.expired/server"
+    })
+    public void shouldSendToClientWhenTtlExpired() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.with.message.groups/client",
+        "${app}/send.to.server.with.message.groups/server"
+    })
+    public void shouldSendToServerWithMessageGroups() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.routed.by.properties/client",
+        "${app}/send.to.server.when.routed.by.properties/server"
+    })
+    public void shouldSendToServerWhenRoutedByProperties() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.when.anycast/client",
+        "${app}/send.to.client.when.anycast/server"
+    })
+    public void shouldSendToClientWhenAnycast() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.when.anycast.by.least.outstanding.credit/client",
+        "${app}/send.to.client.when.anycast.by.least.outstanding.credit/server"
+    })
+    public void shouldSendToClientWhenAnycastByLeastOutstandingCredit() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.anycast.by.correlation.id/client",
+        "${app}/send.to.server.when.anycast.by.correlation.id/server"
+    })
+    public void shouldSendToServerWhenAnycastByCorrelationId() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.when.fanout/client",
+        "${app}/send.to.client.when.fanout/server"
+    })
+    public void shouldSendToClientWhenFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.with.credit.pool/client",
+        "${app}/send.to.server.with.credit.pool/server"
+    })
+    public void shouldSendToServerWithCreditPool() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.durable/client",
+        "${app}/send.to.server.when.durable/server"
+    })
+    public void shouldSendToServerWhenDurable() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.recovered/client",
+        "${app}/send.to.server.when.recovered/server"
+    })
+    public void shouldSendToServerWhenRecovered() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.with.group.commit/client",
+        "${app}/send.to.server.with.group.commit/server"
+    })
+    public void shouldSendToServerWithGroupCommit() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/send.to.client.when.max.frame.size.exceeded/client",
@@ -277,6 +487,46 @@ public class StreamIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.transfers.batched/client",
+        "${app}/send.to.server.when.transfers.batched/server"
+    })
+    public void shouldSendToServerWhenTransfersBatched() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.frames.split/client",
+        "${app}/send.to.server.when.frames.split/server"
+    })
+    public void shouldSendToServerWhenFramesSplit() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.client.with.seeded.payload/client",
+        "${app}/send.to.client.with.seeded.payload/server"
+    })
+    public void shouldSendToClientWithSeededPayload() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.with.seeded.payload/client",
+        "${app}/send.to.server.with.seeded.payload/server"
+    })
+    public void shouldSendToServerWithSeededPayload() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/send.to.client.when.links.interleaved/client",
@@ -297,6 +547,16 @@ public class StreamIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.links.flow.coalesced/client",
+        "${app}/send.to.server.when.links.flow.coalesced/server"
+    })
+    public void shouldSendToServerWhenLinksFlowCoalesced() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/send.to.client.when.links.interleaved.and.fragmented/client",
@@ -317,6 +577,26 @@ public class StreamIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/send.to.client.when.multiplexed/client",
+        "${app}/send.to.client.when.multiplexed/server"
+    })
+    public void shouldSendToClientWhenMultiplexed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/send.to.server.when.multiplexed/client",
+        "${app}/send.to.server.when.multiplexed/server"
+    })
+    public void shouldSendToServerWhenMultiplexed() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/send.to.client.when.sessions.interleaved/client",
@@ -1188,6 +1468,16 @@ public class StreamIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/send.to.server.max.message.size.exceeded.when.fragmented/client",
+        "${app}/send.to.server.max.message.size.exceeded.when.fragmented/server"
+    })
+    public void shouldAbortStreamWhenMaxMessageSizeExceededWhenFragmented() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/send.to.client.when.last.fragment.aborted/client",
@@ -90,6 +90,15 @@ public class ConnectionIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/client.idle.timeout.does.not.expire.when.multiple.connections/client",
+        "${net}/client.idle.timeout.does.not.expire.when.multiple.connections/server"})
+    public void shouldPreventTimeoutSentByClientWhenMultipleConnections() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/server.idle.timeout.does.not.expire/client",
@@ -108,6 +117,15 @@ public class ConnectionIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/server.idle.timeout.does.not.expire.when.multiple.connections/client",
+        "${net}/server.idle.timeout.does.not.expire.when.multiple.connections/server"})
+    public void shouldPreventTimeoutSentByServerWhenMultipleConnections() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/sasl.exchange/client",
@@ -136,6 +154,51 @@ public class ConnectionIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/sasl.plain.exchange/client",
+        "${net}/sasl.plain.exchange/server"})
+    public void shouldExchangeSaslPlain() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/sasl.plain.exchange.rejected/client",
+        "${net}/sasl.plain.exchange.rejected/server"})
+    public void shouldRejectSaslPlain() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/sasl.external.exchange/client",
+        "${net}/sasl.external.exchange/server"})
+    public void shouldExchangeSaslExternal() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/sasl.plain.exchange.then.open.exchange.pipelined/client",
+        "${net}/sasl.plain.exchange.then.open.exchange.pipelined/server"})
+    public void shouldPipelineSaslPlainWithOpen() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connection.storm/client",
+        "${net}/connection.storm/server"})
+    public void shouldConnectWhenStormed() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/close.exchange.server.abandoned/client",
@@ -175,6 +238,33 @@ public class ConnectionIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/open.with.capabilities.negotiated/client",
+        "${net}/open.with.capabilities.negotiated/server"})
+    public void shouldOpenWithCapabilitiesNegotiated() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/open.with.capabilities.not.offered/client",
+        "${net}/open.with.capabilities.not.offered/server"})
+    public void shouldOpenWithCapabilitiesNotOffered() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/open.with.capabilities.when.many.connections/client",
+        "${net}/open.with.capabilities.when.many.connections/server"})
+    public void shouldOpenWithCapabilitiesWhenManyConnections() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/reject.incorrect.fields.key.type/client",
@@ -108,6 +108,24 @@ public class LinkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.exactly.once/client",
+        "${net}/transfer.to.client.exactly.once/server"})
+    public void shouldTransferToClientExactlyOnce() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.exactly.once/client",
+        "${net}/transfer.to.server.exactly.once/server"})
+    public void shouldTransferToServerExactlyOnce() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/detach.exchange/client",
@@ -198,6 +216,51 @@ public class LinkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.with.random.messages/client",
+        "${net}/transfer.to.client.with.random.messages/server"})
+    public void shouldTransferToClientWithRandomMessages() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.random.messages/client",
+        "${net}/transfer.to.server.with.random.messages/server"})
+    public void shouldTransferToServerWithRandomMessages() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.encoded.frames/client",
+        "${net}/transfer.to.server.with.encoded.frames/server"})
+    public void shouldTransferToServerWithEncodedFrames() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.with.frame.matchers/client",
+        "${net}/transfer.to.client.with.frame.matchers/server"})
+    public void shouldTransferToClientWithFrameMatchers() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.frame.matchers/client",
+        "${net}/transfer.to.server.with.frame.matchers/server"})
+    public void shouldTransferToServerWithFrameMatchers() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/transfer.to.client.with.footer/client",
@@ -216,6 +279,170 @@ public class LinkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.with.raw.sections/client",
+        "${net}/transfer.to.client.with.raw.sections/server"})
+    public void shouldTransferToClientWithRawSections() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.raw.sections/client",
+        "${net}/transfer.to.server.with.raw.sections/server"})
+    public void shouldTransferToServerWithRawSections() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.with.header.fields/client",
+        "${net}/transfer.to.client.with.header.fields/server"})
+    public void shouldTransferToClientWithHeaderFields() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.header.fields/client",
+        "${net}/transfer.to.server.with.header.fields/server"})
+    public void shouldTransferToServerWithHeaderFields() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.scheduling.round.robin/client",
+        "${net}/transfer.to.client.when.scheduling.round.robin/server"})
+    public void shouldTransferToClientWhenSchedulingRoundRobin() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.scheduling.weighted/client",
+        "${net}/transfer.to.client.when.scheduling.weighted/server"})
+    public void shouldTransferToClientWhenSchedulingWeighted() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.scheduling.strict.priority/client",
+        "${net}/transfer.to.client.when.scheduling.strict.priority/server"})
+    public void shouldTransferToClientWhenSchedulingStrictPriority() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.expired/client",
+        "${net}/transfer.to.client.when.expired/server"})
+    public void shouldTransferToClientWhenExpired() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.ttl.expired/client",
+        "${net}/transfer.to.client.when.ttl.expired/server"})
+    public void shouldTransferToClientWhenTtlExpired() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("TTL_EXPIRED");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.message.groups/client",
+        "${net}/transfer.to.server.with.message.groups/server"})
+    public void shouldTransferToServerWithMessageGroups() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.routed.by.properties/client",
+        "${net}/transfer.to.server.when.routed.by.properties/server"})
+    public void shouldTransferToServerWhenRoutedByProperties() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.anycast/client",
+        "${net}/transfer.to.client.when.anycast/server"})
+    public void shouldTransferToClientWhenAnycast() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.anycast.by.least.outstanding.credit/client",
+        "${net}/transfer.to.client.when.anycast.by.least.outstanding.credit/server"})
+    public void shouldTransferToClientWhenAnycastByLeastOutstandingCredit() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.anycast.by.correlation.id/client",
+        "${net}/transfer.to.server.when.anycast.by.correlation.id/server"})
+    public void shouldTransferToServerWhenAnycastByCorrelationId() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.fanout/client",
+        "${net}/transfer.to.client.when.fanout/server"})
+    public void shouldTransferToClientWhenFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.credit.pool/client",
+        "${net}/transfer.to.server.with.credit.pool/server"})
+    public void shouldTransferToServerWithCreditPool() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.durable/client",
+        "${net}/transfer.to.server.when.durable/server"})
+    public void shouldTransferToServerWhenDurable() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.group.commit/client",
+        "${net}/transfer.to.server.with.group.commit/server"})
+    public void shouldTransferToServerWithGroupCommit() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/transfer.to.client.when.max.frame.size.exceeded/client",
@@ -252,6 +479,42 @@ public class LinkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.transfers.batched/client",
+        "${net}/transfer.to.server.when.transfers.batched/server"})
+    public void shouldTransferToServerWhenTransfersBatched() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.frames.split/client",
+        "${net}/transfer.to.server.when.frames.split/server"})
+    public void shouldTransferToServerWhenFramesSplit() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.with.seeded.payload/client",
+        "${net}/transfer.to.client.with.seeded.payload/server"})
+    public void shouldTransferToClientWithSeededPayload() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.with.seeded.payload/client",
+        "${net}/transfer.to.server.with.seeded.payload/server"})
+    public void shouldTransferToServerWithSeededPayload() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/transfer.to.client.when.links.interleaved/client",
@@ -270,6 +533,24 @@ public class LinkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.links.flow.coalesced/client",
+        "${net}/transfer.to.server.when.links.flow.coalesced/server"})
+    public void shouldTransferToServerWhenLinksFlowCoalesced() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.links.flow.not.coalesced/client",
+        "${net}/transfer.to.server.when.links.flow.not.coalesced/server"})
+    public void shouldTransferToServerWhenLinksFlowNotCoalesced() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/transfer.to.client.when.links.interleaved.and.max.frame.size.exceeded/client",
@@ -297,6 +578,24 @@ public class LinkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/transfer.to.client.when.multiplexed/client",
+        "${net}/transfer.to.client.when.multiplexed/server"})
+    public void shouldTransferToClientWhenMultiplexed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.when.multiplexed/client",
+        "${net}/transfer.to.server.when.multiplexed/server"})
+    public void shouldTransferToServerWhenMultiplexed() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/max.frame.size.exceeded.with.multiple.sessions.and.links/client",
@@ -1042,6 +1341,15 @@ public class LinkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/transfer.to.server.max.message.size.exceeded.when.fragmented/client",
+        "${net}/transfer.to.server.max.message.size.exceeded.when.fragmented/server"})
+    public void shouldTransferToServerThenDetachWhenMaxMessageSizeExceededWhenFragmented() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/transfer.to.server.when.middle.fragment.aborted/client",